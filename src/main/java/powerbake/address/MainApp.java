@@ -2,6 +2,7 @@ package powerbake.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -21,10 +22,16 @@ import powerbake.address.model.ModelManager;
 import powerbake.address.model.ReadOnlyAddressBook;
 import powerbake.address.model.ReadOnlyUserPrefs;
 import powerbake.address.model.UserPrefs;
+import powerbake.address.model.order.OrderArchive;
 import powerbake.address.model.util.SampleDataUtil;
+import powerbake.address.storage.AddressBookFormatConverter;
 import powerbake.address.storage.AddressBookStorage;
+import powerbake.address.storage.BackgroundAddressBookSaver;
+import powerbake.address.storage.BinaryAddressBookStorage;
+import powerbake.address.storage.JournaledAddressBookStorage;
 import powerbake.address.storage.JsonAddressBookStorage;
 import powerbake.address.storage.JsonUserPrefsStorage;
+import powerbake.address.storage.MappedOrderArchive;
 import powerbake.address.storage.Storage;
 import powerbake.address.storage.StorageManager;
 import powerbake.address.storage.UserPrefsStorage;
@@ -38,6 +45,9 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(0, 2, 2, true);
 
+    private static final String BACKGROUND_SAVE_ERROR_FORMAT =
+            "Could not save the changes made by the last command due to the following error: %s";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -45,6 +55,7 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected BackgroundAddressBookSaver backgroundSaver;
 
     @Override
     public void init() throws Exception {
@@ -57,7 +68,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
@@ -67,6 +78,32 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} selected by {@code userPrefs} and {@code config}.
+     * When binary storage is switched on or off, the data file of the other format is migrated into the one in use.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        AddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonFilePath, config.isCompactDataFile());
+        AddressBookStorage binaryStorage =
+                new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath));
+        AddressBookStorage addressBookStorage = userPrefs.isBinaryStorageEnabled() ? binaryStorage : jsonStorage;
+        AddressBookStorage inactiveStorage = userPrefs.isBinaryStorageEnabled() ? jsonStorage : binaryStorage;
+
+        try {
+            AddressBookFormatConverter.migrate(inactiveStorage, addressBookStorage);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Data file at " + inactiveStorage.getAddressBookFilePath() + " could not be migrated to "
+                    + addressBookStorage.getAddressBookFilePath() + " " + StringUtil.getDetails(e));
+        }
+
+        if (userPrefs.isJournalEnabled()) {
+            return new JournaledAddressBookStorage(addressBookStorage);
+        }
+        backgroundSaver = new BackgroundAddressBookSaver(addressBookStorage);
+        return backgroundSaver;
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -74,6 +111,10 @@ public class MainApp extends Application {
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
+        if (userPrefs.isJournalEnabled()) {
+            logger.info("Using journal file : "
+                    + JournaledAddressBookStorage.getJournalFilePath(storage.getAddressBookFilePath()));
+        }
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
@@ -90,7 +131,49 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        AddressBook addressBook = new AddressBook(initialData);
+        OrderArchive orderArchive = initOrderArchive(storage, userPrefs, addressBook);
+        return new ModelManager(addressBook, userPrefs, orderArchive);
+    }
+
+    /**
+     * Returns the order archive kept alongside the data file of {@code userPrefs}.
+     * If archiving is enabled in {@code userPrefs}, old delivered and cancelled orders are first moved from
+     * {@code addressBook} to the archive, and the smaller {@code addressBook} is saved before this returns.
+     * An empty archive will be used instead if errors occur when opening the archive.
+     */
+    private OrderArchive initOrderArchive(Storage storage, ReadOnlyUserPrefs userPrefs, AddressBook addressBook) {
+        MappedOrderArchive orderArchive = new MappedOrderArchive(userPrefs.getAddressBookFilePath());
+        try {
+            orderArchive.open();
+        } catch (IOException e) {
+            logger.warning("Order archive at " + MappedOrderArchive.getArchiveFilePath(
+                    userPrefs.getAddressBookFilePath()) + " could not be opened " + StringUtil.getDetails(e));
+            return OrderArchive.EMPTY;
+        }
+
+        if (userPrefs.getOrderArchiveAgeDays() > 0) {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(userPrefs.getOrderArchiveAgeDays());
+            int archivedCount;
+            try {
+                archivedCount = orderArchive.archiveOrders(addressBook, cutoff);
+            } catch (IOException e) {
+                logger.warning("Failed to archive old orders " + StringUtil.getDetails(e));
+                return orderArchive;
+            }
+            try {
+                // the save must complete before startup continues, as no failure handler is set yet
+                if (archivedCount > 0) {
+                    storage.saveAddressBook(addressBook);
+                    if (backgroundSaver != null) {
+                        backgroundSaver.flush();
+                    }
+                }
+            } catch (IOException e) {
+                logger.severe("Failed to save address book after archiving old orders " + StringUtil.getDetails(e));
+            }
+        }
+        return orderArchive;
     }
 
     private void initLogging(Config config) {
@@ -172,6 +255,10 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting PowerBake " + MainApp.VERSION);
         ui.start(primaryStage);
+        if (backgroundSaver != null) {
+            backgroundSaver.setFailureHandler(ioe -> ui.showFeedbackToUser(
+                    String.format(BACKGROUND_SAVE_ERROR_FORMAT, ioe.getMessage())));
+        }
     }
 
     @Override
@@ -182,5 +269,12 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        if (backgroundSaver != null) {
+            try {
+                backgroundSaver.close();
+            } catch (IOException e) {
+                logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+            }
+        }
     }
 }
@@ -0,0 +1,160 @@
+package powerbake.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An {@code ObservableList} backed by a {@code PersistentList}, whose changes can be grouped into batches.
+ * The current contents can be taken as a {@code PersistentList} in constant time, which later changes do not affect.
+ * The changes made during a batch take effect immediately, but are only published to the listeners of the list
+ * when the batch is committed, as a single change made up of all of them.
+ * A batch can instead be rolled back, which undoes its changes in time proportional to the number of changes made.
+ *
+ * @param <E> the type of the elements in the list.
+ */
+public class BatchedObservableList<E> extends ModifiableObservableListBase<E> {
+
+    public static final String MESSAGE_BATCH_IN_PROGRESS = "A batch of changes is already in progress";
+    public static final String MESSAGE_NO_BATCH_IN_PROGRESS = "There is no batch of changes in progress";
+
+    private PersistentList<E> elements = PersistentList.empty();
+    /** Undoes the changes made in the current batch, latest first, or null if there is no batch in progress. */
+    private Deque<Runnable> undoLog;
+
+    /**
+     * Returns the current contents of this list, which are not affected by later changes to the list.
+     */
+    public PersistentList<E> asPersistentList() {
+        return elements;
+    }
+
+    /**
+     * Returns true if a batch of changes is in progress.
+     */
+    public boolean isInBatch() {
+        return undoLog != null;
+    }
+
+    /**
+     * Starts a batch of changes, which are published when the batch is committed.
+     * @throws IllegalStateException if a batch is already in progress
+     */
+    public void beginBatch() {
+        if (isInBatch()) {
+            throw new IllegalStateException(MESSAGE_BATCH_IN_PROGRESS);
+        }
+        undoLog = new ArrayDeque<>();
+        beginChange();
+    }
+
+    /**
+     * Publishes the changes made in the current batch to the listeners of this list as a single change.
+     * @throws IllegalStateException if there is no batch in progress
+     */
+    public void commitBatch() {
+        requireBatch();
+        undoLog = null;
+        endChange();
+    }
+
+    /**
+     * Undoes the changes made in the current batch, latest first.
+     * Listeners that have not yet been told of the changes are told of the net change, if any.
+     * @throws IllegalStateException if there is no batch in progress
+     */
+    public void rollbackBatch() {
+        requireBatch();
+        Deque<Runnable> changesToUndo = undoLog;
+        // undoing a change must not log it again
+        undoLog = null;
+        while (!changesToUndo.isEmpty()) {
+            changesToUndo.pop().run();
+        }
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Returns an iterator over the current contents of this list, which visits all of them in {@code O(n)} time
+     * and is not affected by later changes to the list.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return elements.iterator();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements = elements.plus(index, element);
+        logUndo(() -> remove(index));
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        E replacedElement = elements.get(index);
+        elements = elements.with(index, element);
+        logUndo(() -> set(index, replacedElement));
+        return replacedElement;
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        E removedElement = elements.get(index);
+        elements = elements.minus(index);
+        logUndo(() -> add(index, removedElement));
+        return removedElement;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code replacement} as a single change,
+     * in time proportional to the size of {@code replacement}, or in constant time if it is a
+     * {@code PersistentList}.
+     */
+    @Override
+    public boolean setAll(Collection<? extends E> replacement) {
+        requireNonNull(replacement);
+        beginChange();
+        try {
+            PersistentList<E> replacedElements = elements;
+            elements = PersistentList.copyOf(replacement);
+            modCount++;
+            if (!replacedElements.isEmpty()) {
+                nextRemove(0, replacedElements);
+            }
+            if (!elements.isEmpty()) {
+                nextAdd(0, elements.size());
+            }
+            logUndo(() -> setAll(replacedElements));
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    private void logUndo(Runnable undo) {
+        if (isInBatch()) {
+            undoLog.push(undo);
+        }
+    }
+
+    private void requireBatch() {
+        if (!isInBatch()) {
+            throw new IllegalStateException(MESSAGE_NO_BATCH_IN_PROGRESS);
+        }
+    }
+}
@@ -5,7 +5,7 @@ import static powerbake.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Arrays;
+import java.util.List;
 
 /**
  * Helper functions for handling strings.
@@ -28,15 +28,70 @@ public class StringUtil {
         requireNonNull(sentence);
         requireNonNull(word);
 
+        return containsIgnoreCase(sentence, prepareKeyword(word));
+    }
+
+    /**
+     * Returns a {@code KeywordMatcher} that tests sentences against all of {@code keywords} in the same way as
+     * {@link #containsWordIgnoreCase(String, String)}.
+     * The keywords are checked and case-folded once, so the matcher can be reused to test many sentences.
+     * @param keywords cannot be null, each keyword cannot be empty and must be a single word
+     */
+    public static KeywordMatcher compileKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        String[] preppedKeywords = new String[keywords.size()];
+        for (int i = 0; i < preppedKeywords.length; i++) {
+            preppedKeywords[i] = prepareKeyword(requireNonNull(keywords.get(i)));
+        }
+        return new KeywordMatcher(preppedKeywords);
+    }
+
+    private static String prepareKeyword(String word) {
         String preppedWord = word.trim();
         checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
         checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        return preppedWord.toLowerCase();
+    }
 
-        String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+    /**
+     * Returns true if {@code sentence} contains {@code lowerCaseWord}, ignoring case.
+     * As the word has no whitespace, this is the same as one of the words of the sentence containing it.
+     */
+    private static boolean containsIgnoreCase(String sentence, String lowerCaseWord) {
+        int length = lowerCaseWord.length();
+        int lastStart = sentence.length() - length;
+        for (int i = 0; i <= lastStart; i++) {
+            if (sentence.regionMatches(true, i, lowerCaseWord, 0, length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tests sentences against a fixed set of keywords, without allocating any memory per test.
+     * Obtained from {@link StringUtil#compileKeywords(List)}.
+     */
+    public static class KeywordMatcher {
+        private final String[] lowerCaseKeywords;
 
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(w -> w.toLowerCase().contains(preppedWord.toLowerCase()));
+        private KeywordMatcher(String[] lowerCaseKeywords) {
+            this.lowerCaseKeywords = lowerCaseKeywords;
+        }
+
+        /**
+         * Returns true if any word of {@code sentence} contains any of the keywords, ignoring case.
+         * @param sentence cannot be null
+         */
+        public boolean matchesAny(String sentence) {
+            requireNonNull(sentence);
+            for (String keyword : lowerCaseKeywords) {
+                if (containsIgnoreCase(sentence, keyword)) {
+                    return true;
+                }
+            }
+            return false;
+        }
     }
 
     /**
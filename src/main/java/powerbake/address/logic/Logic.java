@@ -9,6 +9,7 @@ import powerbake.address.logic.commands.exceptions.CommandException;
 import powerbake.address.logic.parser.exceptions.ParseException;
 import powerbake.address.model.ReadOnlyAddressBook;
 import powerbake.address.model.order.Order;
+import powerbake.address.model.order.OrderStatus;
 import powerbake.address.model.pastry.Pastry;
 import powerbake.address.model.person.Person;
 
@@ -41,6 +42,13 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of pastries */
     ObservableList<Order> getFilteredOrderList();
 
+    /**
+     * Returns an unmodifiable view of the orders with the given {@code status}.
+     *
+     * @see powerbake.address.model.Model#getOrderListByStatus(OrderStatus)
+     */
+    ObservableList<Order> getOrderListByStatus(OrderStatus status);
+
     /**
      * Returns the user prefs' address book file path.
      */
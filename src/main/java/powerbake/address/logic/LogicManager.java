@@ -16,6 +16,7 @@ import powerbake.address.logic.parser.exceptions.ParseException;
 import powerbake.address.model.Model;
 import powerbake.address.model.ReadOnlyAddressBook;
 import powerbake.address.model.order.Order;
+import powerbake.address.model.order.OrderStatus;
 import powerbake.address.model.pastry.Pastry;
 import powerbake.address.model.person.Person;
 import powerbake.address.storage.Storage;
@@ -51,6 +52,7 @@ public class LogicManager implements Logic {
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
+        model.commitAddressBook();
 
         try {
             storage.saveAddressBook(model.getAddressBook());
@@ -83,6 +85,11 @@ public class LogicManager implements Logic {
         return model.getFilteredOrderList();
     }
 
+    @Override
+    public ObservableList<Order> getOrderListByStatus(OrderStatus status) {
+        return model.getOrderListByStatus(status);
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -28,8 +28,12 @@ public class Messages {
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d client(s) listed!";
     public static final String MESSAGE_PASTRIES_LISTED_OVERVIEW = "%1$d pastry(ies) listed!";
     public static final String MESSAGE_ORDERS_LISTED_OVERVIEW = "%1$d order(s) listed!";
+    public static final String MESSAGE_ARCHIVED_ORDERS_LISTED_OVERVIEW = "%1$d archived order(s) also found:";
+    public static final String MESSAGE_MORE_ARCHIVED_ORDERS = "...and %1$d more archived order(s)";
+    public static final String MESSAGE_CLOSEST_MATCHES = "Closest matches: %1$s";
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
+    public static final String MESSAGE_INVALID_DATE = "Dates should be in the format YYYY-MM-DD, e.g. 2026-10-01";
     public static final String MESSAGE_INVALID_ENTITY = "Invalid entity. Only 'client' and 'pastry' are supported.";
     public static final String MESSAGE_CONSTRAINTS_ORDERSTATUS =
             "Order status should only be either: pending, "
@@ -70,7 +70,11 @@ public class AddOrderCommand extends AddCommand {
         requireNonNull(model);
         Person personWhoOrdered = getValidClient(model);
         ArrayList<OrderItem> orderList = getValidOrderItems(model);
-        toAddOrder = new Order(personWhoOrdered, orderList);
+        try {
+            toAddOrder = new Order(personWhoOrdered, orderList);
+        } catch (IllegalArgumentException e) {
+            throw new CommandException(e.getMessage());
+        }
 
         if (model.hasOrder(toAddOrder)) {
             throw new CommandException(MESSAGE_DUPLICATE_ORDER);
@@ -96,27 +100,14 @@ public class AddOrderCommand extends AddCommand {
     }
 
     private ArrayList<OrderItem> getValidOrderItems(Model model) throws CommandException {
-        List<Pastry> lastShownList = model.getFilteredPastryList();
         ArrayList<OrderItem> orderItems = new ArrayList<>();
         requireNonNull(unformattedOrderList);
         HashSet<String> uniquePastryNames = new HashSet<>();
 
         for (ArrayList<String> order : unformattedOrderList) {
             // Check for valid pastry name
-            if (lastShownList.stream()
-                    .noneMatch(pastry -> pastry
-                            .getName()
-                            .toString()
-                            .equalsIgnoreCase(order.get(0)))) {
-                throw new CommandException(Messages.MESSAGE_INVALID_PASTRY_DISPLAYED);
-            }
-
-            Pastry pastry = lastShownList.stream()
-                    .filter(existingPastry -> existingPastry
-                            .getName()
-                            .toString()
-                            .equalsIgnoreCase(order.get(0)))
-                    .findFirst().get();
+            Pastry pastry = model.findPastryByName(order.get(0))
+                    .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_PASTRY_DISPLAYED));
 
             // Check for duplicates
             if (uniquePastryNames.contains(pastry.getName().toString())) {
@@ -124,8 +115,11 @@ public class AddOrderCommand extends AddCommand {
             }
             // Create and add order Object
             int quantity = Integer.parseInt(order.get(1));
-            OrderItem newOrder = new OrderItem(pastry, quantity);
-            orderItems.add(newOrder);
+            try {
+                orderItems.add(new OrderItem(pastry, quantity));
+            } catch (IllegalArgumentException e) {
+                throw new CommandException(e.getMessage());
+            }
             uniquePastryNames.add(pastry.getName().toString());
         }
 
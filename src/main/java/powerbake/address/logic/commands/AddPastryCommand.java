@@ -44,7 +44,7 @@ public class AddPastryCommand extends AddCommand {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        if (model.hasPastry(toAddPastry)) {
+        if (model.findPastryByName(toAddPastry.getName().toString()).isPresent()) {
             throw new CommandException(MESSAGE_DUPLICATE_PASTRY);
         }
 
@@ -2,6 +2,7 @@ package powerbake.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import powerbake.address.logic.commands.exceptions.CommandException;
 import powerbake.address.model.AddressBook;
 import powerbake.address.model.Model;
 
@@ -15,9 +16,10 @@ public class ClearCommand extends Command {
 
 
     @Override
-    public CommandResult execute(Model model) {
+    public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.setAddressBook(new AddressBook());
+        // listeners of each list only see the cleared address book once every list is cleared
+        runInBatch(model, () -> model.setAddressBook(new AddressBook()));
         return new CommandResult(MESSAGE_SUCCESS);
     }
 }
@@ -17,4 +17,28 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Makes {@code changes} to {@code model} in a single batch, so that each list of the model publishes them as
+     * a single change. If {@code changes} fails, the changes made so far are rolled back and the error is rethrown.
+     *
+     * @see Model#beginBatch()
+     */
+    protected static void runInBatch(Model model, ModelChanges changes) throws CommandException {
+        model.beginBatch();
+        try {
+            changes.apply();
+        } catch (CommandException | RuntimeException e) {
+            model.rollbackBatch();
+            throw e;
+        }
+        model.commitBatch();
+    }
+
+    /**
+     * Changes made to a model by a command, which may fail with a {@code CommandException}.
+     */
+    @FunctionalInterface
+    protected interface ModelChanges {
+        void apply() throws CommandException;
+    }
 }
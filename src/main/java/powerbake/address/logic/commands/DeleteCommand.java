@@ -13,7 +13,9 @@ import powerbake.address.logic.Messages;
 import powerbake.address.logic.commands.exceptions.CommandException;
 import powerbake.address.model.Model;
 import powerbake.address.model.order.Order;
+import powerbake.address.model.order.OrderId;
 import powerbake.address.model.pastry.Pastry;
+import powerbake.address.model.pastry.Price;
 import powerbake.address.model.person.Person;
 
 /**
@@ -176,7 +178,9 @@ public class DeleteCommand extends Command {
                     );
         }
 
-        Order orderToDelete = lastShownList.get(targetIndex.getZeroBased());
+        OrderId orderIdToDelete = lastShownList.get(targetIndex.getZeroBased()).getOrderId();
+        Order orderToDelete = model.getOrderById(orderIdToDelete).orElseThrow(() -> new CommandException(
+                String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, Messages.MESSAGE_INVALID_INDEX)));
 
         List<String> orderItemsSummary = orderToDelete.getOrderItems()
                 .stream()
@@ -184,7 +188,7 @@ public class DeleteCommand extends Command {
                 .collect(Collectors.toList());
 
         String orderItemsString = String.join(",  ", orderItemsSummary);
-        String price = String.format("$%.2f", orderToDelete.getTotalPrice());
+        String price = "$" + Price.formatCents(orderToDelete.getTotalCents());
 
         final DateTimeFormatter dateTimeFormatter = DateTimeFormatter
                 .ofPattern("EEE, d MMM yyyy hh:mm a")
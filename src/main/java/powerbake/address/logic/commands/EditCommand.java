@@ -9,7 +9,6 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Stream;
 
 import powerbake.address.commons.core.index.Index;
 import powerbake.address.commons.util.CollectionUtil;
@@ -145,23 +144,14 @@ public class EditCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_CLIENT);
         }
 
-        model.setPerson(personToEdit, editedPerson);
-        // Update all orders that reference this person
-        Stream<Order> ordersStream = model.getFilteredOrderList().stream();
-        ordersStream.filter((order) -> order.getCustomer().equals(personToEdit))
-            .forEach((order) -> {
-                model.setOrder(
-                        order,
-                        new Order(
-                            order.getOrderId(),
-                            editedPerson,
-                            order.getOrderItems(),
-                            order.getOrderDate(),
-                            order.getStatus()
-                            )
-                    );
+        // Update all orders that reference this person, publishing a single change to the order list
+        runInBatch(model, () -> {
+            model.setPerson(personToEdit, editedPerson);
+            for (Order order : model.getOrdersOfCustomer(personToEdit)) {
+                model.setOrder(order, new Order(order.getOrderId(), editedPerson, order.getOrderItems(),
+                        order.getOrderDate(), order.getStatus()));
             }
-            );
+        });
 
         model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(String.format(MESSAGE_EDIT_CLIENT_SUCCESS, Messages.format(editedPerson)),
@@ -215,7 +205,9 @@ public class EditCommand extends Command {
                     );
         }
 
-        Order orderToEdit = model.getFilteredOrderList().get(index.getZeroBased());
+        OrderId orderIdToEdit = lastShownList.get(index.getZeroBased()).getOrderId();
+        Order orderToEdit = model.getOrderById(orderIdToEdit).orElseThrow(() -> new CommandException(
+                String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, Messages.MESSAGE_INVALID_INDEX)));
         Order editedOrder = createEditedOrder(orderToEdit, (EditOrderDescriptor) editDescriptor);
 
         if (!orderToEdit.isSameOrder(editedOrder) && model.hasOrder(editedOrder)) {
@@ -1,31 +1,75 @@
 package powerbake.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static powerbake.address.logic.parser.CliSyntax.PREFIX_QUERY_CUSTOMER;
+import static powerbake.address.logic.parser.CliSyntax.PREFIX_QUERY_FROM;
+import static powerbake.address.logic.parser.CliSyntax.PREFIX_QUERY_MAX_TOTAL;
+import static powerbake.address.logic.parser.CliSyntax.PREFIX_QUERY_MIN_TOTAL;
+import static powerbake.address.logic.parser.CliSyntax.PREFIX_QUERY_PASTRY;
+import static powerbake.address.logic.parser.CliSyntax.PREFIX_QUERY_STATUS;
+import static powerbake.address.logic.parser.CliSyntax.PREFIX_QUERY_TO;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import powerbake.address.commons.util.ToStringBuilder;
 import powerbake.address.logic.Messages;
 import powerbake.address.model.Model;
+import powerbake.address.model.ReadOnlyAddressBook;
+import powerbake.address.model.TrigramIndex;
+import powerbake.address.model.order.Order;
+import powerbake.address.model.order.OrderQuery;
+import powerbake.address.model.pastry.Pastry;
+import powerbake.address.model.person.Person;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ * Matches are looked up in the name indexes of the model. The filtered lists test membership in the matches, and only
+ * test the keywords against items once the searched list has been modified after the search.
+ * Orders can also be found by their status, date, pastries and total, as given by an {@code OrderQuery}.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
+    public static final String FUZZY_WORD = "fuzzy";
+
+    /** The number of closest matches named in the feedback of a fuzzy search. */
+    public static final int MAX_CLOSEST_MATCHES_SHOWN = 10;
+
+    /** The number of matching archived orders listed in the feedback of an order search. */
+    public static final int MAX_ARCHIVED_ORDERS_SHOWN = 10;
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Finds all clients/pastry whose names and orders with client names that contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with actual index numbers.\n"
-            + "Parameters: TYPE (client/pastry/order) KEYWORD [MORE_KEYWORDS]...\n"
+            + "Matching archived orders are also listed in the result.\n"
+            + "Start with " + FUZZY_WORD + " to also find clients/pastries whose names are spelt similarly.\n"
+            + "Parameters: [" + FUZZY_WORD + "] TYPE (client/pastry/order) KEYWORD [MORE_KEYWORDS]...\n"
+            + "Orders can also be found by any of: "
+            + PREFIX_QUERY_STATUS + "STATUS " + PREFIX_QUERY_FROM + "YYYY-MM-DD " + PREFIX_QUERY_TO + "YYYY-MM-DD "
+            + PREFIX_QUERY_CUSTOMER + "KEYWORDS " + PREFIX_QUERY_PASTRY + "KEYWORDS "
+            + PREFIX_QUERY_MIN_TOTAL + "TOTAL " + PREFIX_QUERY_MAX_TOTAL + "TOTAL\n"
             + "Example: " + COMMAND_WORD + " client alice bob charlie\n"
             + "Example: " + COMMAND_WORD + " pastry croissant\n"
-            + "Example: " + COMMAND_WORD + " order alice";
+            + "Example: " + COMMAND_WORD + " order alice\n"
+            + "Example: " + COMMAND_WORD + " order " + PREFIX_QUERY_STATUS + "PENDING "
+            + PREFIX_QUERY_FROM + "2026-10-01 " + PREFIX_QUERY_PASTRY + "croissant\n"
+            + "Example: " + COMMAND_WORD + " " + FUZZY_WORD + " pastry crossant";
 
     private final String commandWord;
     private final String[] nameKeywords;
+    private final boolean isFuzzy;
+    // the conditions on the orders to find, or null if persons or pastries are to be found
+    private final OrderQuery orderQuery;
 
     /**
      * Creates a FindCommand to find the specified {@code Person/Pastry/Order}
@@ -35,34 +79,127 @@ public class FindCommand extends Command {
      *                     The search is case-insensitive.
      */
     public FindCommand(String commandWord, String[] nameKeywords) {
+        this(commandWord, nameKeywords, false);
+    }
+
+    /**
+     * Creates a FindCommand to find the specified {@code Person/Pastry/Order}, where {@code isFuzzy} tells
+     * whether names spelt similarly to the keywords are also found. Only clients and pastries can be found fuzzily.
+     */
+    public FindCommand(String commandWord, String[] nameKeywords, boolean isFuzzy) {
+        assert !isFuzzy || !commandWord.equalsIgnoreCase("order");
         this.commandWord = commandWord;
         this.nameKeywords = nameKeywords;
+        this.isFuzzy = isFuzzy;
+        this.orderQuery = commandWord.equalsIgnoreCase("order")
+                ? new OrderQuery().withCustomerKeywords(Arrays.asList(nameKeywords))
+                : null;
+    }
+
+    /**
+     * Creates a FindCommand to find the orders that match {@code orderQuery}.
+     */
+    public FindCommand(OrderQuery orderQuery) {
+        requireNonNull(orderQuery);
+        this.commandWord = "order";
+        this.nameKeywords = orderQuery.getCustomerKeywords().toArray(new String[0]);
+        this.isFuzzy = false;
+        this.orderQuery = orderQuery;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        if (commandWord.equalsIgnoreCase("client")) {
-            model.updateFilteredPersonList(
-                    new powerbake.address.model.person.NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        List<String> keywords = Arrays.asList(nameKeywords);
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        if (isFuzzy && commandWord.equalsIgnoreCase("client")) {
+            List<Person> matches = model.findPersonsBySimilarName(keywords);
+            model.updateFilteredPersonList(matchesOrRetests(toIdentitySet(matches),
+                    addressBook::getPersonModificationCount,
+                    TrigramIndex.similarNamePredicate(keywords, person -> person.getName().fullName)));
+            String feedback = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, matches.size())
+                    + getClosestMatches(matches, person -> person.getName().fullName);
+            return new CommandResult(feedback, false, false, true, false, false);
+        } else if (isFuzzy) {
+            List<Pastry> matches = model.findPastriesBySimilarName(keywords);
+            model.updateFilteredPastryList(matchesOrRetests(toIdentitySet(matches),
+                    addressBook::getPastryModificationCount,
+                    TrigramIndex.similarNamePredicate(keywords, pastry -> pastry.getName().name)));
+            String feedback = String.format(Messages.MESSAGE_PASTRIES_LISTED_OVERVIEW, matches.size())
+                    + getClosestMatches(matches, pastry -> pastry.getName().name);
+            return new CommandResult(feedback, false, false, false, true, false);
+        } else if (commandWord.equalsIgnoreCase("client")) {
+            Set<Person> matches = model.findPersonsByName(keywords);
+            model.updateFilteredPersonList(matchesOrRetests(matches, addressBook::getPersonModificationCount,
+                    new powerbake.address.model.person.NameContainsKeywordsPredicate(keywords)));
             return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()),
                 false, false, true, false, false);
         } else if (commandWord.equalsIgnoreCase("pastry")) {
-            model.updateFilteredPastryList(
-                    new powerbake.address.model.pastry.NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+            Set<Pastry> matches = model.findPastriesByName(keywords);
+            model.updateFilteredPastryList(matchesOrRetests(matches, addressBook::getPastryModificationCount,
+                    new powerbake.address.model.pastry.NameContainsKeywordsPredicate(keywords)));
             return new CommandResult(
                 String.format(Messages.MESSAGE_PASTRIES_LISTED_OVERVIEW, model.getFilteredPastryList().size()),
                 false, false, false, true, false);
         } else {
+            Set<Order> matches = model.findOrders(orderQuery);
             model.updateFilteredOrderList(
-                    new powerbake.address.model.order.NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
-            return new CommandResult(
-                String.format(Messages.MESSAGE_ORDERS_LISTED_OVERVIEW, model.getFilteredOrderList().size()),
-                false, false, false, false, true);
+                    matchesOrRetests(matches, addressBook::getOrderModificationCount, orderQuery));
+            StringBuilder feedback = new StringBuilder(
+                    String.format(Messages.MESSAGE_ORDERS_LISTED_OVERVIEW, model.getFilteredOrderList().size()));
+            // the archive only indexes the status and date of its orders, so other conditions are tested one by one
+            List<Order> archivedOrders = model.findArchivedOrders(orderQuery);
+            if (!archivedOrders.isEmpty()) {
+                feedback.append("\n")
+                        .append(String.format(Messages.MESSAGE_ARCHIVED_ORDERS_LISTED_OVERVIEW, archivedOrders.size()));
+                int shownCount = Math.min(archivedOrders.size(), MAX_ARCHIVED_ORDERS_SHOWN);
+                for (Order order : archivedOrders.subList(0, shownCount)) {
+                    feedback.append("\n").append(order.getOrderDate().toLocalDate())
+                            .append(": ").append(Messages.format(order));
+                }
+                if (archivedOrders.size() > shownCount) {
+                    feedback.append("\n").append(String.format(Messages.MESSAGE_MORE_ARCHIVED_ORDERS,
+                            archivedOrders.size() - shownCount));
+                }
+            }
+            return new CommandResult(feedback.toString(), false, false, false, false, true);
         }
     }
 
+    /**
+     * Returns a predicate that accepts the items in {@code matches}, which were found among the searched items,
+     * and tests any other item with {@code predicate} once {@code modificationCount} of the searched list has changed.
+     * The filtered list then only tests the items added or edited since, which are thus still shown if they match,
+     * while the items present at the search are not tested one by one when the predicate is set.
+     */
+    private static <T> Predicate<T> matchesOrRetests(Set<T> matches, LongSupplier modificationCount,
+            Predicate<? super T> predicate) {
+        long searchedModificationCount = modificationCount.getAsLong();
+        return item -> matches.contains(item)
+                || (modificationCount.getAsLong() != searchedModificationCount && predicate.test(item));
+    }
+
+    private static <T> Set<T> toIdentitySet(List<T> items) {
+        Set<T> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        set.addAll(items);
+        return set;
+    }
+
+    /**
+     * Returns a line naming the first few of {@code rankedMatches}, or an empty string if there are none.
+     */
+    private static <T> String getClosestMatches(List<T> rankedMatches, Function<T, String> nameOf) {
+        if (rankedMatches.isEmpty()) {
+            return "";
+        }
+        String names = rankedMatches.stream()
+                .limit(MAX_CLOSEST_MATCHES_SHOWN)
+                .map(nameOf)
+                .collect(Collectors.joining(", "));
+        return "\n" + String.format(Messages.MESSAGE_CLOSEST_MATCHES, names);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -76,14 +213,20 @@ public class FindCommand extends Command {
 
         FindCommand otherFindCommand = (FindCommand) other;
         return commandWord.equals(otherFindCommand.commandWord)
-                && Arrays.equals(nameKeywords, otherFindCommand.nameKeywords);
+                && Arrays.equals(nameKeywords, otherFindCommand.nameKeywords)
+                && isFuzzy == otherFindCommand.isFuzzy
+                && Objects.equals(orderQuery, otherFindCommand.orderQuery);
     }
 
     @Override
     public String toString() {
-        return new ToStringBuilder(this)
+        ToStringBuilder builder = new ToStringBuilder(this)
                 .add("commandWord", commandWord)
                 .add("nameKeywords", Arrays.toString(nameKeywords))
-                .toString();
+                .add("isFuzzy", isFuzzy);
+        if (orderQuery != null) {
+            builder.add("orderQuery", orderQuery);
+        }
+        return builder.toString();
     }
 }
@@ -0,0 +1,44 @@
+package powerbake.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import powerbake.address.model.Model;
+
+/**
+ * Lists how many of each pastry are still to be baked for the pending and processing orders,
+ * with the pastries needed most first.
+ * The quantities are read from the production plan kept by the model, instead of being added up from the orders.
+ */
+public class PlanCommand extends Command {
+
+    public static final String COMMAND_WORD = "plan";
+
+    public static final String MESSAGE_SUCCESS = "Pastries to bake for pending and processing orders:";
+    public static final String MESSAGE_NOTHING_TO_BAKE = "There are no pastries to bake for pending and processing "
+            + "orders.";
+    public static final String MESSAGE_PASTRY_QUANTITY = "%1$s: %2$d";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Map<String, Integer> plan = model.getProductionPlan();
+        if (plan.isEmpty()) {
+            return new CommandResult(MESSAGE_NOTHING_TO_BAKE);
+        }
+
+        List<Map.Entry<String, Integer>> quantities = new ArrayList<>(plan.entrySet());
+        quantities.sort(Map.Entry.<String, Integer>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey(String.CASE_INSENSITIVE_ORDER)));
+
+        StringBuilder message = new StringBuilder(MESSAGE_SUCCESS);
+        for (Map.Entry<String, Integer> quantity : quantities) {
+            message.append("\n").append(String.format(MESSAGE_PASTRY_QUANTITY, quantity.getKey(),
+                    quantity.getValue()));
+        }
+        return new CommandResult(message.toString());
+    }
+}
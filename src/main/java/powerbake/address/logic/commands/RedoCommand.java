@@ -0,0 +1,35 @@
+package powerbake.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static powerbake.address.model.Model.PREDICATE_SHOW_ALL_ORDERS;
+import static powerbake.address.model.Model.PREDICATE_SHOW_ALL_PASTRIES;
+import static powerbake.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import powerbake.address.logic.commands.exceptions.CommandException;
+import powerbake.address.model.Model;
+
+/**
+ * Restores PowerBake to the state that was last undone.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_SUCCESS = "Redone the last undone change!";
+    public static final String MESSAGE_FAILURE = "There are no undone changes to redo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canRedoAddressBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.redoAddressBook();
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        model.updateFilteredPastryList(PREDICATE_SHOW_ALL_PASTRIES);
+        model.updateFilteredOrderList(PREDICATE_SHOW_ALL_ORDERS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -0,0 +1,143 @@
+package powerbake.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+import powerbake.address.commons.core.index.Index;
+import powerbake.address.commons.util.ToStringBuilder;
+import powerbake.address.logic.Messages;
+import powerbake.address.logic.commands.exceptions.CommandException;
+import powerbake.address.model.Model;
+import powerbake.address.model.SalesTotals;
+import powerbake.address.model.pastry.Pastry;
+import powerbake.address.model.pastry.Price;
+import powerbake.address.model.person.Person;
+
+/**
+ * Reports the sales of all orders and of today's orders, of the orders placed on a date, or of a client or pastry
+ * identified by its index in the displayed list. Cancelled orders are not counted.
+ * The sales are read from the totals kept by the model, instead of being added up from the orders.
+ */
+public class ReportCommand extends Command {
+
+    public static final String COMMAND_WORD = "report";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Reports the number of orders, the number of items and the revenue of all orders and today's orders, "
+            + "of the orders placed on a date, or of the client/pastry identified by the index in the displayed list.\n"
+            + "Cancelled orders are not counted.\n"
+            + "Parameters: [DATE (YYYY-MM-DD) | TYPE (client/pastry) INDEX (must be a positive integer)]\n"
+            + "Example: " + COMMAND_WORD + "\n"
+            + "Example: " + COMMAND_WORD + " 2026-10-01\n"
+            + "Example: " + COMMAND_WORD + " pastry 2";
+
+    public static final String MESSAGE_SALES = "%1$s: %2$d order(s), %3$d item(s), $%4$s revenue";
+    public static final String MESSAGE_ALL_ORDERS = "All orders";
+    public static final String MESSAGE_ORDERS_ON = "Orders on %1$s";
+    public static final String MESSAGE_ORDERS_BY = "Orders by %1$s";
+
+    /** The type of entity to report on, either "client" or "pastry", or null to report on dates. */
+    private final String entityType;
+    private final Index targetIndex;
+    /** The date to report on, or null to report on all orders and today's orders. */
+    private final LocalDate date;
+
+    /**
+     * Creates a ReportCommand to report the sales of all orders and of today's orders.
+     */
+    public ReportCommand() {
+        this.entityType = null;
+        this.targetIndex = null;
+        this.date = null;
+    }
+
+    /**
+     * Creates a ReportCommand to report the sales of the orders placed on {@code date}.
+     */
+    public ReportCommand(LocalDate date) {
+        requireNonNull(date);
+        this.entityType = null;
+        this.targetIndex = null;
+        this.date = date;
+    }
+
+    /**
+     * Creates a ReportCommand to report the sales of the client or pastry at {@code targetIndex}.
+     *
+     * @param entityType The type of entity to report on ("client" or "pastry").
+     * @param targetIndex The index of the entity in the displayed list.
+     */
+    public ReportCommand(String entityType, Index targetIndex) {
+        requireNonNull(entityType);
+        requireNonNull(targetIndex);
+        this.entityType = entityType.toLowerCase();
+        this.targetIndex = targetIndex;
+        this.date = null;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if ("client".equals(entityType)) {
+            Person customer = getTarget(model.getFilteredPersonList());
+            return new CommandResult(formatSales(String.format(MESSAGE_ORDERS_BY, customer.getName()),
+                    model.getSalesTotalsOf(customer)));
+        } else if ("pastry".equals(entityType)) {
+            Pastry pastry = getTarget(model.getFilteredPastryList());
+            return new CommandResult(formatSales(pastry.getName().name, model.getSalesTotalsOf(pastry)));
+        } else if (date != null) {
+            return new CommandResult(formatSales(String.format(MESSAGE_ORDERS_ON, date),
+                    model.getSalesTotalsOn(date)));
+        }
+
+        LocalDate today = LocalDate.now();
+        return new CommandResult(formatSales(MESSAGE_ALL_ORDERS, model.getSalesTotals()) + "\n"
+                + formatSales(String.format(MESSAGE_ORDERS_ON, today), model.getSalesTotalsOn(today)));
+    }
+
+    private <T> T getTarget(List<T> lastShownList) throws CommandException {
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(String.format(
+                    Messages.MESSAGE_INVALID_COMMAND_FORMAT, Messages.MESSAGE_INVALID_INDEX));
+        }
+        return lastShownList.get(targetIndex.getZeroBased());
+    }
+
+    /**
+     * Returns a line describing {@code totals}, headed by {@code title}.
+     */
+    public static String formatSales(String title, SalesTotals totals) {
+        return String.format(MESSAGE_SALES, title, totals.getOrderCount(), totals.getQuantity(),
+                Price.formatCents(totals.getRevenueCents()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ReportCommand)) {
+            return false;
+        }
+
+        ReportCommand otherReportCommand = (ReportCommand) other;
+        return Objects.equals(entityType, otherReportCommand.entityType)
+                && Objects.equals(targetIndex, otherReportCommand.targetIndex)
+                && Objects.equals(date, otherReportCommand.date);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("entityType", entityType)
+                .add("targetIndex", targetIndex)
+                .add("date", date)
+                .toString();
+    }
+}
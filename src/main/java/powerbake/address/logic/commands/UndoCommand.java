@@ -0,0 +1,35 @@
+package powerbake.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static powerbake.address.model.Model.PREDICATE_SHOW_ALL_ORDERS;
+import static powerbake.address.model.Model.PREDICATE_SHOW_ALL_PASTRIES;
+import static powerbake.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import powerbake.address.logic.commands.exceptions.CommandException;
+import powerbake.address.model.Model;
+
+/**
+ * Restores PowerBake to the state before the last command that changed it.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_SUCCESS = "Undone the last change!";
+    public static final String MESSAGE_FAILURE = "There are no changes to undo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canUndoAddressBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.undoAddressBook();
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        model.updateFilteredPastryList(PREDICATE_SHOW_ALL_PASTRIES);
+        model.updateFilteredOrderList(PREDICATE_SHOW_ALL_ORDERS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -16,6 +16,10 @@ import powerbake.address.logic.commands.EditCommand;
 import powerbake.address.logic.commands.ExitCommand;
 import powerbake.address.logic.commands.FindCommand;
 import powerbake.address.logic.commands.HelpCommand;
+import powerbake.address.logic.commands.PlanCommand;
+import powerbake.address.logic.commands.RedoCommand;
+import powerbake.address.logic.commands.ReportCommand;
+import powerbake.address.logic.commands.UndoCommand;
 import powerbake.address.logic.commands.ViewCommand;
 import powerbake.address.logic.parser.exceptions.ParseException;
 
@@ -71,6 +75,18 @@ public class AddressBookParser {
         case ViewCommand.COMMAND_WORD:
             return new ViewCommandParser().parse(arguments);
 
+        case ReportCommand.COMMAND_WORD:
+            return new ReportCommandParser().parse(arguments);
+
+        case PlanCommand.COMMAND_WORD:
+            return new PlanCommand();
+
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
@@ -21,4 +21,13 @@ public class CliSyntax {
     public static final Prefix PREFIX_PASTRY_NAME = new Prefix("-pn ");
     public static final Prefix PREFIX_QUANTITY = new Prefix("-q ");
     public static final Prefix PREFIX_STATUS = new Prefix("-s ");
+
+    /* Prefix definitions for the conditions of a find order query */
+    public static final Prefix PREFIX_QUERY_STATUS = new Prefix("status/");
+    public static final Prefix PREFIX_QUERY_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_QUERY_TO = new Prefix("to/");
+    public static final Prefix PREFIX_QUERY_CUSTOMER = new Prefix("customer/");
+    public static final Prefix PREFIX_QUERY_PASTRY = new Prefix("pastry/");
+    public static final Prefix PREFIX_QUERY_MIN_TOTAL = new Prefix("min/");
+    public static final Prefix PREFIX_QUERY_MAX_TOTAL = new Prefix("max/");
 }
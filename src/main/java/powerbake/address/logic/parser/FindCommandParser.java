@@ -2,8 +2,6 @@ package powerbake.address.logic.parser;
 
 import static powerbake.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
-import java.util.Arrays;
-
 import powerbake.address.logic.commands.FindCommand;
 import powerbake.address.logic.parser.exceptions.ParseException;
 /**
@@ -23,25 +21,32 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] splitArgs = trimmedArgs.split("\\s+");
+        boolean isFuzzy = trimmedArgs.split("\\s+")[0].equalsIgnoreCase(FindCommand.FUZZY_WORD);
+        if (isFuzzy) {
+            trimmedArgs = trimmedArgs.substring(FindCommand.FUZZY_WORD.length()).trim();
+        }
 
+        String[] splitArgs = trimmedArgs.split("\\s+", 2);
         if (splitArgs.length < 2) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = Arrays.copyOfRange(splitArgs, 1, splitArgs.length);
-
         String commandWord = splitArgs[0];
         boolean isClient = commandWord.equalsIgnoreCase("client");
         boolean isPastry = commandWord.equalsIgnoreCase("pastry");
         boolean isOrder = commandWord.equalsIgnoreCase("order");
 
-        if (!(isClient || isPastry || isOrder)) {
+        if (!(isClient || isPastry || isOrder) || (isFuzzy && isOrder)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        return new FindCommand(commandWord, nameKeywords);
+        if (isOrder) {
+            return new FindCommand(new OrderQueryParser().parse(splitArgs[1]));
+        }
+
+        String[] nameKeywords = splitArgs[1].split("\\s+");
+        return new FindCommand(commandWord, nameKeywords, isFuzzy);
     }
 
 }
@@ -0,0 +1,116 @@
+package powerbake.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static powerbake.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static powerbake.address.logic.parser.CliSyntax.PREFIX_QUERY_CUSTOMER;
+import static powerbake.address.logic.parser.CliSyntax.PREFIX_QUERY_FROM;
+import static powerbake.address.logic.parser.CliSyntax.PREFIX_QUERY_MAX_TOTAL;
+import static powerbake.address.logic.parser.CliSyntax.PREFIX_QUERY_MIN_TOTAL;
+import static powerbake.address.logic.parser.CliSyntax.PREFIX_QUERY_PASTRY;
+import static powerbake.address.logic.parser.CliSyntax.PREFIX_QUERY_STATUS;
+import static powerbake.address.logic.parser.CliSyntax.PREFIX_QUERY_TO;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import powerbake.address.logic.commands.FindCommand;
+import powerbake.address.logic.parser.exceptions.ParseException;
+import powerbake.address.model.order.OrderQuery;
+import powerbake.address.model.pastry.Price;
+
+/**
+ * Parses the conditions of a {@code find order} command into an {@code OrderQuery},
+ * e.g. {@code alice status/PENDING from/2026-10-01 pastry/croissant}.
+ * Words before the first condition are keywords for the customer name, as in {@code find order alice}.
+ */
+public class OrderQueryParser {
+
+    public static final String MESSAGE_INVALID_DATE_RANGE = "The from/ date must not be after the to/ date.";
+
+    private static final Prefix[] QUERY_PREFIXES = {PREFIX_QUERY_STATUS, PREFIX_QUERY_FROM, PREFIX_QUERY_TO,
+        PREFIX_QUERY_CUSTOMER, PREFIX_QUERY_PASTRY, PREFIX_QUERY_MIN_TOTAL, PREFIX_QUERY_MAX_TOTAL};
+
+    /**
+     * Parses the given {@code String} of conditions and returns the {@code OrderQuery} they make up.
+     * @throws ParseException if the conditions do not conform to the expected format
+     */
+    public OrderQuery parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + args, QUERY_PREFIXES);
+        argMultimap.verifyNoDuplicatePrefixesFor(QUERY_PREFIXES);
+
+        OrderQuery query = new OrderQuery();
+
+        List<String> customerKeywords = new ArrayList<>(splitKeywords(argMultimap.getPreamble()));
+        Optional<String> customer = argMultimap.getValue(PREFIX_QUERY_CUSTOMER);
+        if (customer.isPresent()) {
+            customerKeywords.addAll(parseKeywords(customer.get()));
+        }
+        if (!customerKeywords.isEmpty()) {
+            query = query.withCustomerKeywords(customerKeywords);
+        }
+
+        if (argMultimap.getValue(PREFIX_QUERY_PASTRY).isPresent()) {
+            query = query.withPastryKeywords(parseKeywords(argMultimap.getValue(PREFIX_QUERY_PASTRY).get()));
+        }
+        if (argMultimap.getValue(PREFIX_QUERY_STATUS).isPresent()) {
+            query = query.withStatus(ParserUtil.parseOrderStatus(argMultimap.getValue(PREFIX_QUERY_STATUS).get()));
+        }
+        if (argMultimap.getValue(PREFIX_QUERY_FROM).isPresent()) {
+            query = query.withFromDate(ParserUtil.parseDate(argMultimap.getValue(PREFIX_QUERY_FROM).get()));
+        }
+        if (argMultimap.getValue(PREFIX_QUERY_TO).isPresent()) {
+            query = query.withToDate(ParserUtil.parseDate(argMultimap.getValue(PREFIX_QUERY_TO).get()));
+        }
+        if (argMultimap.getValue(PREFIX_QUERY_MIN_TOTAL).isPresent()) {
+            query = query.withMinTotalCents(parseTotalCents(argMultimap.getValue(PREFIX_QUERY_MIN_TOTAL).get()));
+        }
+        if (argMultimap.getValue(PREFIX_QUERY_MAX_TOTAL).isPresent()) {
+            query = query.withMaxTotalCents(parseTotalCents(argMultimap.getValue(PREFIX_QUERY_MAX_TOTAL).get()));
+        }
+
+        if (customerKeywords.isEmpty() && !query.hasConditionsOtherThanCustomer()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        Optional<LocalDate> fromDate = query.getFromDate();
+        Optional<LocalDate> toDate = query.getToDate();
+        if (fromDate.isPresent() && toDate.isPresent() && fromDate.get().isAfter(toDate.get())) {
+            throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+        }
+
+        return query;
+    }
+
+    /**
+     * Returns the whitespace-separated keywords in {@code value}.
+     * @throws ParseException if {@code value} has no keywords
+     */
+    private static List<String> parseKeywords(String value) throws ParseException {
+        List<String> keywords = splitKeywords(value);
+        if (keywords.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return keywords;
+    }
+
+    private static List<String> splitKeywords(String value) {
+        String trimmedValue = value.trim();
+        return trimmedValue.isEmpty() ? List.of() : Arrays.asList(trimmedValue.split("\\s+"));
+    }
+
+    /**
+     * Parses an order total, given in the same format as a price, into cents.
+     * @throws ParseException if {@code total} is not a valid price
+     */
+    private static long parseTotalCents(String total) throws ParseException {
+        String trimmedTotal = total.trim();
+        if (!Price.isValidPrice(trimmedTotal)) {
+            throw new ParseException(Price.MESSAGE_CONSTRAINTS);
+        }
+        return new Price(trimmedTotal).getCents();
+    }
+}
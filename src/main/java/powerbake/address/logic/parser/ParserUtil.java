@@ -3,6 +3,8 @@ package powerbake.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static powerbake.address.logic.parser.CliSyntax.PREFIX_QUANTITY;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
@@ -220,4 +222,19 @@ public class ParserUtil {
 
         return OrderStatus.valueOf(trimmedStatus.toUpperCase());
     }
+
+    /**
+     * Parses a {@code String date} in the format YYYY-MM-DD into a {@code LocalDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code date} is invalid.
+     */
+    public static LocalDate parseDate(String date) throws ParseException {
+        requireNonNull(date);
+        try {
+            return LocalDate.parse(date.trim());
+        } catch (DateTimeParseException e) {
+            throw new ParseException(Messages.MESSAGE_INVALID_DATE);
+        }
+    }
 }
@@ -0,0 +1,44 @@
+package powerbake.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static powerbake.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import powerbake.address.logic.commands.ReportCommand;
+import powerbake.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ReportCommand object
+ */
+public class ReportCommandParser implements Parser<ReportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ReportCommand
+     * and returns a ReportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ReportCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new ReportCommand();
+        }
+
+        String[] parts = trimmedArgs.split("\\s+");
+        boolean isEntity = parts[0].equalsIgnoreCase("client") || parts[0].equalsIgnoreCase("pastry");
+
+        if (parts.length == 1 && !isEntity) {
+            return new ReportCommand(ParserUtil.parseDate(parts[0]));
+        }
+
+        if (parts.length != 2 || !isEntity) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReportCommand.MESSAGE_USAGE));
+        }
+
+        try {
+            return new ReportCommand(parts[0], ParserUtil.parseIndex(parts[1]));
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, pe.getMessage())
+                    + "\n" + ReportCommand.MESSAGE_USAGE);
+        }
+    }
+}
@@ -3,15 +3,18 @@ package powerbake.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.Optional;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import powerbake.address.commons.util.ToStringBuilder;
 import powerbake.address.model.order.Order;
+import powerbake.address.model.order.OrderId;
 import powerbake.address.model.order.UniqueOrderList;
 import powerbake.address.model.pastry.Pastry;
 import powerbake.address.model.pastry.UniquePastryList;
 import powerbake.address.model.person.Person;
+import powerbake.address.model.person.Phone;
 import powerbake.address.model.person.UniquePersonList;
 
 /**
@@ -24,6 +27,10 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniquePastryList pastries;
     private final UniqueOrderList orders;
 
+    private long personModificationCount;
+    private long pastryModificationCount;
+    private long orderModificationCount;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -35,6 +42,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons = new UniquePersonList();
         pastries = new UniquePastryList();
         orders = new UniqueOrderList();
+
+        // every add, set and remove (including replacing a whole list) counts as a modification
+        persons.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                personModificationCount++);
+        pastries.asUnmodifiableObservableList().addListener((ListChangeListener<Pastry>) change ->
+                pastryModificationCount++);
+        orders.asUnmodifiableObservableList().addListener((ListChangeListener<Order>) change ->
+                orderModificationCount++);
     }
 
     public AddressBook() {}
@@ -84,6 +99,66 @@ public class AddressBook implements ReadOnlyAddressBook {
         setOrders(newData.getOrderList());
     }
 
+    //// snapshot operations
+
+    /**
+     * Returns a snapshot of the current contents of this {@code AddressBook}, taken in constant time.
+     */
+    public AddressBookSnapshot snapshot() {
+        return new AddressBookSnapshot(persons.asPersistentList(), pastries.asPersistentList(),
+                orders.asPersistentList(), personModificationCount, pastryModificationCount, orderModificationCount);
+    }
+
+    /**
+     * Restores the contents of this {@code AddressBook} to those of {@code snapshot}.
+     * Lists that this address book still shares with {@code snapshot} are left untouched.
+     */
+    public void restore(AddressBookSnapshot snapshot) {
+        requireNonNull(snapshot);
+        if (persons.asPersistentList() != snapshot.getPersons()) {
+            setPersons(snapshot.getPersons());
+        }
+        if (pastries.asPersistentList() != snapshot.getPastries()) {
+            setPastries(snapshot.getPastries());
+        }
+        if (orders.asPersistentList() != snapshot.getOrders()) {
+            setOrders(snapshot.getOrders());
+        }
+    }
+
+    //// batch operations
+
+    /**
+     * Starts a batch of changes to this {@code AddressBook}. The changes take effect immediately, but each list
+     * only publishes them to its listeners when the batch is committed, as a single change.
+     * @throws IllegalStateException if a batch is already in progress
+     */
+    public void beginBatch() {
+        persons.beginBatch();
+        pastries.beginBatch();
+        orders.beginBatch();
+    }
+
+    /**
+     * Publishes the changes made in the current batch, with a single change for each list.
+     * @throws IllegalStateException if there is no batch in progress
+     */
+    public void commitBatch() {
+        persons.commitBatch();
+        pastries.commitBatch();
+        orders.commitBatch();
+    }
+
+    /**
+     * Undoes the changes made in the current batch.
+     * @throws IllegalStateException if there is no batch in progress
+     */
+    public void rollbackBatch() {
+        persons.rollbackBatch();
+        pastries.rollbackBatch();
+        orders.rollbackBatch();
+    }
+
     //// person-level operations
 
     /**
@@ -94,6 +169,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person with the given {@code phone}, if they exist in the address book.
+     */
+    public Optional<Person> findPersonByPhone(Phone phone) {
+        requireNonNull(phone);
+        return persons.getByPhone(phone);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
@@ -128,15 +211,15 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public boolean hasPastry(Pastry pastry) {
         requireNonNull(pastry);
-        Stream<Pastry> duplicatePastry = pastries.asUnmodifiableObservableList()
-                .stream()
-                .filter(existing_pastry ->
-                        pastry.getName()
-                                .toString()
-                                .equalsIgnoreCase(existing_pastry
-                                        .getName()
-                                        .toString()));
-        return duplicatePastry.findAny().isPresent();
+        return pastries.contains(pastry);
+    }
+
+    /**
+     * Returns the pastry whose name matches {@code name}, ignoring case, if it exists in the address book.
+     */
+    public Optional<Pastry> findPastryByName(String name) {
+        requireNonNull(name);
+        return pastries.getByName(name);
     }
 
     /**
@@ -174,6 +257,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         return orders.contains(order);
     }
 
+    /**
+     * Returns the order with the given {@code orderId}, if it exists in the address book.
+     */
+    public Optional<Order> getOrderById(OrderId orderId) {
+        requireNonNull(orderId);
+        return orders.getById(orderId);
+    }
+
     /**
      * Adds an order to the address book.
      * The order must not already exist in the address book.
@@ -226,6 +317,21 @@ public class AddressBook implements ReadOnlyAddressBook {
         return orders.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getPersonModificationCount() {
+        return personModificationCount;
+    }
+
+    @Override
+    public long getPastryModificationCount() {
+        return pastryModificationCount;
+    }
+
+    @Override
+    public long getOrderModificationCount() {
+        return orderModificationCount;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,104 @@
+package powerbake.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * The committed states of an address book, which changes to the address book can be undone and redone through.
+ * Each state is an {@code AddressBookSnapshot}, which shares the parts of the address book that it has in common
+ * with the other states, so a state only takes memory in proportion to what changed since the previous state.
+ * At most {@code capacity} changes can be undone; older states are forgotten.
+ */
+public class AddressBookHistory {
+
+    /** The number of changes that can be undone by default. */
+    public static final int DEFAULT_CAPACITY = 50;
+
+    public static final String MESSAGE_NOTHING_TO_UNDO = "There are no changes to undo";
+    public static final String MESSAGE_NOTHING_TO_REDO = "There are no changes to redo";
+
+    private final int capacity;
+    // the states before and after the current state, nearest first
+    private final Deque<AddressBookSnapshot> undoStates = new ArrayDeque<>();
+    private final Deque<AddressBookSnapshot> redoStates = new ArrayDeque<>();
+    private AddressBookSnapshot currentState;
+
+    /**
+     * Creates an {@code AddressBookHistory} starting at {@code initialState}, which keeps up to {@code capacity}
+     * states to undo to.
+     */
+    public AddressBookHistory(AddressBookSnapshot initialState, int capacity) {
+        requireNonNull(initialState);
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity of the history must be positive");
+        }
+        this.currentState = initialState;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Makes {@code state} the current state, unless it shares its lists with the current state.
+     * The states that were undone are discarded, and cannot be redone anymore.
+     *
+     * @return true if {@code state} was committed.
+     */
+    public boolean commit(AddressBookSnapshot state) {
+        requireNonNull(state);
+        if (state.hasSameListsAs(currentState)) {
+            return false;
+        }
+        undoStates.push(currentState);
+        if (undoStates.size() > capacity) {
+            undoStates.removeLast();
+        }
+        redoStates.clear();
+        currentState = state;
+        return true;
+    }
+
+    public AddressBookSnapshot getCurrentState() {
+        return currentState;
+    }
+
+    /**
+     * Returns true if there is a state before the current state.
+     */
+    public boolean canUndo() {
+        return !undoStates.isEmpty();
+    }
+
+    /**
+     * Returns true if there is an undone state after the current state.
+     */
+    public boolean canRedo() {
+        return !redoStates.isEmpty();
+    }
+
+    /**
+     * Moves back to the state before the current state, and returns it.
+     * @throws IllegalStateException if there is no state to undo to
+     */
+    public AddressBookSnapshot undo() {
+        if (!canUndo()) {
+            throw new IllegalStateException(MESSAGE_NOTHING_TO_UNDO);
+        }
+        redoStates.push(currentState);
+        currentState = undoStates.pop();
+        return currentState;
+    }
+
+    /**
+     * Moves forward to the state that was last undone, and returns it.
+     * @throws IllegalStateException if there is no state to redo
+     */
+    public AddressBookSnapshot redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException(MESSAGE_NOTHING_TO_REDO);
+        }
+        undoStates.push(currentState);
+        currentState = redoStates.pop();
+        return currentState;
+    }
+}
@@ -0,0 +1,133 @@
+package powerbake.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import powerbake.address.commons.util.PersistentList;
+import powerbake.address.commons.util.ToStringBuilder;
+import powerbake.address.model.order.Order;
+import powerbake.address.model.pastry.Pastry;
+import powerbake.address.model.person.Person;
+
+/**
+ * An immutable copy of the contents of an address book at one point in time.
+ * Later changes to the copied address book do not affect the snapshot, so it can be safely read from any thread.
+ * The snapshot reports the modification counts the copied address book had when the snapshot was taken.
+ * The lists of the snapshot are {@code PersistentList}s, so a snapshot of an {@code AddressBook} is taken in
+ * constant time and shares its unchanged parts with the address book and its other snapshots.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final PersistentList<Person> persons;
+    private final PersistentList<Pastry> pastries;
+    private final PersistentList<Order> orders;
+    private final ObservableList<Person> personList;
+    private final ObservableList<Pastry> pastryList;
+    private final ObservableList<Order> orderList;
+    private final long personModificationCount;
+    private final long pastryModificationCount;
+    private final long orderModificationCount;
+
+    /**
+     * Creates a snapshot of the current contents of {@code source}, by copying its lists.
+     * @see #of(ReadOnlyAddressBook)
+     */
+    public AddressBookSnapshot(ReadOnlyAddressBook source) {
+        this(PersistentList.copyOf(requireNonNull(source).getPersonList()),
+                PersistentList.copyOf(source.getPastryList()), PersistentList.copyOf(source.getOrderList()),
+                source.getPersonModificationCount(), source.getPastryModificationCount(),
+                source.getOrderModificationCount());
+    }
+
+    /**
+     * Creates a snapshot with the given lists and modification counts.
+     */
+    AddressBookSnapshot(PersistentList<Person> persons, PersistentList<Pastry> pastries, PersistentList<Order> orders,
+            long personModificationCount, long pastryModificationCount, long orderModificationCount) {
+        this.persons = persons;
+        this.pastries = pastries;
+        this.orders = orders;
+        personList = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+        pastryList = FXCollections.unmodifiableObservableList(FXCollections.observableList(pastries));
+        orderList = FXCollections.unmodifiableObservableList(FXCollections.observableList(orders));
+        this.personModificationCount = personModificationCount;
+        this.pastryModificationCount = pastryModificationCount;
+        this.orderModificationCount = orderModificationCount;
+    }
+
+    /**
+     * Returns a snapshot of the current contents of {@code source}, taken in constant time if {@code source}
+     * is an {@code AddressBook} or already a snapshot.
+     */
+    public static AddressBookSnapshot of(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        if (source instanceof AddressBookSnapshot) {
+            return (AddressBookSnapshot) source;
+        } else if (source instanceof AddressBook) {
+            return ((AddressBook) source).snapshot();
+        }
+        return new AddressBookSnapshot(source);
+    }
+
+    /**
+     * Returns true if this snapshot and {@code other} share the same lists, which is the case for snapshots of
+     * an address book that has not been changed in between, or has been restored to one of them.
+     * Snapshots that do not share their lists may still have equal contents.
+     */
+    public boolean hasSameListsAs(AddressBookSnapshot other) {
+        requireNonNull(other);
+        return persons == other.persons && pastries == other.pastries && orders == other.orders;
+    }
+
+    PersistentList<Person> getPersons() {
+        return persons;
+    }
+
+    PersistentList<Pastry> getPastries() {
+        return pastries;
+    }
+
+    PersistentList<Order> getOrders() {
+        return orders;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return personList;
+    }
+
+    @Override
+    public ObservableList<Pastry> getPastryList() {
+        return pastryList;
+    }
+
+    @Override
+    public ObservableList<Order> getOrderList() {
+        return orderList;
+    }
+
+    @Override
+    public long getPersonModificationCount() {
+        return personModificationCount;
+    }
+
+    @Override
+    public long getPastryModificationCount() {
+        return pastryModificationCount;
+    }
+
+    @Override
+    public long getOrderModificationCount() {
+        return orderModificationCount;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .add("pastries", pastries)
+                .add("orders", orders)
+                .toString();
+    }
+}
@@ -1,13 +1,23 @@
 package powerbake.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import powerbake.address.commons.core.GuiSettings;
 import powerbake.address.model.order.Order;
+import powerbake.address.model.order.OrderId;
+import powerbake.address.model.order.OrderQuery;
+import powerbake.address.model.order.OrderStatus;
 import powerbake.address.model.pastry.Pastry;
 import powerbake.address.model.person.Person;
+import powerbake.address.model.person.Phone;
 
 /**
  * The API of the Model component.
@@ -60,11 +70,67 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Starts a batch of changes to the address book, e.g. to edit many orders at once.
+     * The changes take effect immediately, but the lists of the address book only publish them when the batch is
+     * committed, as a single change for each list. Until then, the filtered lists and the indexes over the lists,
+     * such as the one behind {@link #getOrdersOfCustomer(Person)}, do not reflect the changes, and updates to the
+     * filtered lists' predicates are held back.
+     * @throws IllegalStateException if a batch is already in progress
+     */
+    void beginBatch();
+
+    /**
+     * Publishes the changes made in the current batch and applies the held back updates to the filtered lists.
+     * @throws IllegalStateException if there is no batch in progress
+     */
+    void commitBatch();
+
+    /**
+     * Undoes the changes made in the current batch and discards the held back updates to the filtered lists.
+     * @throws IllegalStateException if there is no batch in progress
+     */
+    void rollbackBatch();
+
+    /**
+     * Records the current state of the address book in its history, so that later changes can be undone back to it.
+     * Does nothing if the address book has not changed since the last recorded state.
+     * Recording a state takes constant time and only keeps the parts of the address book that changed.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if there is a recorded state of the address book before the current one.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is a recorded state of the address book that was undone and not changed since.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the address book to the recorded state before the current one.
+     * @throws IllegalStateException if there is no state to undo to
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the address book to the recorded state that was last undone.
+     * @throws IllegalStateException if there is no state to redo
+     */
+    void redoAddressBook();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the person with the given {@code phone}, if they exist in the address book.
+     */
+    Optional<Person> findPersonByPhone(Phone phone);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -98,6 +164,11 @@ public interface Model {
      */
     boolean hasPastry(Pastry pastry);
 
+    /**
+     * Returns the pastry whose name matches {@code name}, ignoring case, if it exists in the address book.
+     */
+    Optional<Pastry> findPastryByName(String name);
+
     /**
      * Deletes the given pastry.
      * The pastry must exist in the address book.
@@ -148,6 +219,11 @@ public interface Model {
      */
     boolean hasOrder(Order order);
 
+    /**
+     * Returns the order with the given {@code orderId}, if it exists in the address book.
+     */
+    Optional<Order> getOrderById(OrderId orderId);
+
     /**
      * Replaces the given order {@code target} with {@code editedOrder}.
      * {@code target} must exist in the address book.
@@ -155,6 +231,112 @@ public interface Model {
      */
     void setOrder(Order target, Order editedOrder);
 
+    /**
+     * Returns the orders in the address book placed by the customer with the same identity as {@code customer},
+     * regardless of the filter on the filtered order list.
+     */
+    List<Order> getOrdersOfCustomer(Person customer);
+
+    /**
+     * Returns the persons in the address book with a name word that contains any of {@code keywords}, ignoring case,
+     * regardless of the filter on the filtered person list.
+     * The returned set compares persons by identity, so it can be used to filter the filtered person list.
+     */
+    Set<Person> findPersonsByName(List<String> keywords);
+
+    /**
+     * Returns the pastries in the address book with a name word that contains any of {@code keywords}.
+     * @see #findPersonsByName(List)
+     */
+    Set<Pastry> findPastriesByName(List<String> keywords);
+
+    /**
+     * Returns the orders in the address book whose customer has a name word that contains any of {@code keywords}.
+     * @see #findPersonsByName(List)
+     */
+    Set<Order> findOrdersByCustomerName(List<String> keywords);
+
+    /**
+     * Returns the orders in the address book that match {@code query}, regardless of the filter on the filtered
+     * order list. Only the orders given by the most selective index for the conditions of {@code query} are tested.
+     * @see #findPersonsByName(List)
+     */
+    Set<Order> findOrders(OrderQuery query);
+
+    /**
+     * Returns an unmodifiable view of the orders in the address book with the given {@code status},
+     * regardless of the filter on the filtered order list. The view follows all later changes to the orders.
+     */
+    ObservableList<Order> getOrderListByStatus(OrderStatus status);
+
+    /**
+     * Returns the number of orders in the address book with the given {@code status}, in constant time.
+     */
+    int countOrdersByStatus(OrderStatus status);
+
+    /**
+     * Returns the orders in the address book placed from {@code start} (inclusive) to {@code end} (exclusive),
+     * earliest first, regardless of the filter on the filtered order list.
+     * The orders are read from an index sorted by date, in time proportional to the number of orders returned.
+     */
+    List<Order> getOrdersPlacedBetween(LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Returns the sales of all orders in the address book, excluding cancelled orders.
+     * Sales are kept up to date as the orders change, so they are read in constant time.
+     */
+    SalesTotals getSalesTotals();
+
+    /**
+     * Returns the sales of the orders in the address book placed on {@code date}.
+     * @see #getSalesTotals()
+     */
+    SalesTotals getSalesTotalsOn(LocalDate date);
+
+    /**
+     * Returns the sales of {@code pastry} in the orders in the address book.
+     * @see #getSalesTotals()
+     */
+    SalesTotals getSalesTotalsOf(Pastry pastry);
+
+    /**
+     * Returns the sales of the orders in the address book placed by {@code customer}.
+     * @see #getSalesTotals()
+     */
+    SalesTotals getSalesTotalsOf(Person customer);
+
+    /**
+     * Returns the names of the pastries still to be baked for the pending and processing orders in the address book,
+     * mapped to how many of each are to be baked, in the order in which the pastries were first ordered.
+     * The quantities are kept up to date as the orders change, so they are read without going through the orders.
+     */
+    Map<String, Integer> getProductionPlan();
+
+    /**
+     * Returns how many of {@code pastry} are still to be baked for the pending and processing orders in the
+     * address book.
+     * @see #getProductionPlan()
+     */
+    int getOutstandingQuantityOf(Pastry pastry);
+
+    /**
+     * Returns the persons in the address book with a name word spelt similarly to any of {@code keywords},
+     * ignoring case, with the closest matches first, regardless of the filter on the filtered person list.
+     */
+    List<Person> findPersonsBySimilarName(List<String> keywords);
+
+    /**
+     * Returns the pastries in the address book with a name word spelt similarly to any of {@code keywords}.
+     * @see #findPersonsBySimilarName(List)
+     */
+    List<Pastry> findPastriesBySimilarName(List<String> keywords);
+
+    /**
+     * Returns the orders in the order archive that match {@code query}.
+     * Archived orders are not in the address book, so they are never in the filtered order list.
+     */
+    List<Order> findArchivedOrders(OrderQuery query);
+
     /**
      * Updates the filter of the filtered order list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
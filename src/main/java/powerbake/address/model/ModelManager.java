@@ -4,16 +4,34 @@ import static java.util.Objects.requireNonNull;
 import static powerbake.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import powerbake.address.commons.core.GuiSettings;
 import powerbake.address.commons.core.LogsCenter;
+import powerbake.address.model.order.CustomerOrderIndex;
 import powerbake.address.model.order.Order;
+import powerbake.address.model.order.OrderArchive;
+import powerbake.address.model.order.OrderDateIndex;
+import powerbake.address.model.order.OrderId;
+import powerbake.address.model.order.OrderQuery;
+import powerbake.address.model.order.OrderStatus;
+import powerbake.address.model.order.OrderStatusIndex;
 import powerbake.address.model.pastry.Pastry;
 import powerbake.address.model.person.Person;
+import powerbake.address.model.person.Phone;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -26,12 +44,37 @@ public class ModelManager implements Model {
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Pastry> filteredPastries;
     private final FilteredList<Order> filteredOrders;
+    private final CustomerOrderIndex customerOrderIndex;
+    private final OrderStatusIndex orderStatusIndex;
+    private final OrderDateIndex orderDateIndex;
+    private final SalesAggregates salesAggregates;
+    private final ProductionPlan productionPlan;
+    private final NameKeywordIndex<Person> personNameIndex;
+    private final NameKeywordIndex<Pastry> pastryNameIndex;
+    private final NameKeywordIndex<Order> orderCustomerNameIndex;
+    private final TrigramIndex<Person> personTrigramIndex;
+    private final TrigramIndex<Pastry> pastryTrigramIndex;
+    private final OrderArchive orderArchive;
+    private final AddressBookHistory addressBookHistory;
+
+    private boolean isInBatch;
+    // the predicates given while a batch is in progress, which are applied once it is committed
+    private Predicate<Person> pendingPersonPredicate;
+    private Predicate<Pastry> pendingPastryPredicate;
+    private Predicate<Order> pendingOrderPredicate;
 
     /**
-     * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Initializes a ModelManager with the given addressBook and userPrefs, and an empty order archive.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(addressBook, userPrefs);
+        this(addressBook, userPrefs, OrderArchive.EMPTY);
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook, userPrefs and orderArchive.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, OrderArchive orderArchive) {
+        requireAllNonNull(addressBook, userPrefs, orderArchive);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
@@ -40,6 +83,19 @@ public class ModelManager implements Model {
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         filteredPastries = new FilteredList<>(this.addressBook.getPastryList());
         filteredOrders = new FilteredList<>(this.addressBook.getOrderList());
+        customerOrderIndex = new CustomerOrderIndex(this.addressBook.getOrderList());
+        orderStatusIndex = new OrderStatusIndex(this.addressBook.getOrderList());
+        orderDateIndex = new OrderDateIndex(this.addressBook.getOrderList());
+        salesAggregates = new SalesAggregates(this.addressBook.getOrderList());
+        productionPlan = new ProductionPlan(this.addressBook.getOrderList());
+        personNameIndex = new NameKeywordIndex<>(this.addressBook.getPersonList(), person -> person.getName().fullName);
+        pastryNameIndex = new NameKeywordIndex<>(this.addressBook.getPastryList(), pastry -> pastry.getName().name);
+        orderCustomerNameIndex = new NameKeywordIndex<>(this.addressBook.getOrderList(),
+                order -> order.getCustomer().getName().fullName);
+        personTrigramIndex = new TrigramIndex<>(this.addressBook.getPersonList(), person -> person.getName().fullName);
+        pastryTrigramIndex = new TrigramIndex<>(this.addressBook.getPastryList(), pastry -> pastry.getName().name);
+        this.orderArchive = orderArchive;
+        addressBookHistory = new AddressBookHistory(this.addressBook.snapshot(), AddressBookHistory.DEFAULT_CAPACITY);
     }
 
     public ModelManager() {
@@ -93,12 +149,79 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public void beginBatch() {
+        addressBook.beginBatch();
+        isInBatch = true;
+    }
+
+    @Override
+    public void commitBatch() {
+        addressBook.commitBatch();
+        isInBatch = false;
+        // the filtered lists must see the changes to their source lists before being filtered again
+        if (pendingPersonPredicate != null) {
+            filteredPersons.setPredicate(pendingPersonPredicate);
+        }
+        if (pendingPastryPredicate != null) {
+            filteredPastries.setPredicate(pendingPastryPredicate);
+        }
+        if (pendingOrderPredicate != null) {
+            filteredOrders.setPredicate(pendingOrderPredicate);
+        }
+        clearPendingPredicates();
+    }
+
+    @Override
+    public void rollbackBatch() {
+        addressBook.rollbackBatch();
+        isInBatch = false;
+        clearPendingPredicates();
+    }
+
+    @Override
+    public void commitAddressBook() {
+        addressBookHistory.commit(addressBook.snapshot());
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return addressBookHistory.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return addressBookHistory.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        addressBook.restore(addressBookHistory.undo());
+    }
+
+    @Override
+    public void redoAddressBook() {
+        addressBook.restore(addressBookHistory.redo());
+    }
+
+    private void clearPendingPredicates() {
+        pendingPersonPredicate = null;
+        pendingPastryPredicate = null;
+        pendingOrderPredicate = null;
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public Optional<Person> findPersonByPhone(Phone phone) {
+        requireNonNull(phone);
+        return addressBook.findPersonByPhone(phone);
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
@@ -123,6 +246,12 @@ public class ModelManager implements Model {
         return addressBook.hasPastry(pastry);
     }
 
+    @Override
+    public Optional<Pastry> findPastryByName(String name) {
+        requireNonNull(name);
+        return addressBook.findPastryByName(name);
+    }
+
     @Override
     public void deletePastry(Pastry target) {
         addressBook.removePastry(target);
@@ -152,6 +281,12 @@ public class ModelManager implements Model {
         return addressBook.hasOrder(order);
     }
 
+    @Override
+    public Optional<Order> getOrderById(OrderId orderId) {
+        requireNonNull(orderId);
+        return addressBook.getOrderById(orderId);
+    }
+
     @Override
     public void setOrder(Order target, Order editedOrder) {
         requireAllNonNull(target, editedOrder);
@@ -163,6 +298,149 @@ public class ModelManager implements Model {
         addressBook.removeOrder(target);
     }
 
+    @Override
+    public List<Order> getOrdersOfCustomer(Person customer) {
+        requireNonNull(customer);
+        return customerOrderIndex.getOrdersOf(customer);
+    }
+
+    @Override
+    public Set<Person> findPersonsByName(List<String> keywords) {
+        requireNonNull(keywords);
+        return personNameIndex.find(keywords);
+    }
+
+    @Override
+    public Set<Pastry> findPastriesByName(List<String> keywords) {
+        requireNonNull(keywords);
+        return pastryNameIndex.find(keywords);
+    }
+
+    @Override
+    public Set<Order> findOrdersByCustomerName(List<String> keywords) {
+        requireNonNull(keywords);
+        return orderCustomerNameIndex.find(keywords);
+    }
+
+    @Override
+    public Set<Order> findOrders(OrderQuery query) {
+        requireNonNull(query);
+        Set<Order> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Order order : getCandidateOrders(query)) {
+            if (query.test(order)) {
+                matches.add(order);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the smallest of the sets of orders that the indexes give for the conditions of {@code query},
+     * or all orders if none of its conditions are indexed.
+     * The sets are compared by their sizes, or upper bounds on them, so that only the returned set is collected.
+     * Every order matching {@code query} is in the returned collection.
+     */
+    private Collection<Order> getCandidateOrders(OrderQuery query) {
+        Supplier<Collection<Order>> candidates = addressBook::getOrderList;
+        int candidateCount = addressBook.getOrderList().size();
+
+        Optional<OrderStatus> status = query.getStatus();
+        if (status.isPresent() && orderStatusIndex.count(status.get()) < candidateCount) {
+            candidates = () -> orderStatusIndex.getOrders(status.get());
+            candidateCount = orderStatusIndex.count(status.get());
+        }
+
+        List<String> customerKeywords = query.getCustomerKeywords();
+        int customerMatchCount = customerKeywords.isEmpty()
+                ? candidateCount
+                : orderCustomerNameIndex.estimateMatchCount(customerKeywords);
+        if (customerMatchCount < candidateCount) {
+            candidates = () -> orderCustomerNameIndex.find(customerKeywords);
+            candidateCount = customerMatchCount;
+        }
+
+        if (query.getFromDate().isPresent() || query.getToDate().isPresent()) {
+            LocalDateTime start = query.getFromDate().map(LocalDate::atStartOfDay).orElse(LocalDateTime.MIN);
+            LocalDateTime end = query.getToDate().map(toDate -> toDate.plusDays(1).atStartOfDay())
+                    .orElse(LocalDateTime.MAX);
+            // counting stops at the size of the smallest set so far
+            if (orderDateIndex.countOrdersPlacedBetween(start, end, candidateCount) < candidateCount) {
+                candidates = () -> orderDateIndex.getOrdersPlacedBetween(start, end);
+            }
+        }
+        return candidates.get();
+    }
+
+    @Override
+    public ObservableList<Order> getOrderListByStatus(OrderStatus status) {
+        requireNonNull(status);
+        return orderStatusIndex.getOrders(status);
+    }
+
+    @Override
+    public int countOrdersByStatus(OrderStatus status) {
+        requireNonNull(status);
+        return orderStatusIndex.count(status);
+    }
+
+    @Override
+    public List<Order> getOrdersPlacedBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        return orderDateIndex.getOrdersPlacedBetween(start, end);
+    }
+
+    @Override
+    public SalesTotals getSalesTotals() {
+        return salesAggregates.getTotals();
+    }
+
+    @Override
+    public SalesTotals getSalesTotalsOn(LocalDate date) {
+        requireNonNull(date);
+        return salesAggregates.getTotalsOn(date);
+    }
+
+    @Override
+    public SalesTotals getSalesTotalsOf(Pastry pastry) {
+        requireNonNull(pastry);
+        return salesAggregates.getTotalsOf(pastry);
+    }
+
+    @Override
+    public SalesTotals getSalesTotalsOf(Person customer) {
+        requireNonNull(customer);
+        return salesAggregates.getTotalsOf(customer);
+    }
+
+    @Override
+    public Map<String, Integer> getProductionPlan() {
+        return productionPlan.getQuantities();
+    }
+
+    @Override
+    public int getOutstandingQuantityOf(Pastry pastry) {
+        requireNonNull(pastry);
+        return productionPlan.getQuantity(pastry);
+    }
+
+    @Override
+    public List<Person> findPersonsBySimilarName(List<String> keywords) {
+        requireNonNull(keywords);
+        return personTrigramIndex.find(keywords);
+    }
+
+    @Override
+    public List<Pastry> findPastriesBySimilarName(List<String> keywords) {
+        requireNonNull(keywords);
+        return pastryTrigramIndex.find(keywords);
+    }
+
+    @Override
+    public List<Order> findArchivedOrders(OrderQuery query) {
+        requireNonNull(query);
+        return orderArchive.findOrders(query);
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -195,18 +473,30 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        if (isInBatch) {
+            pendingPersonPredicate = predicate;
+            return;
+        }
         filteredPersons.setPredicate(predicate);
     }
 
     @Override
     public void updateFilteredPastryList(Predicate<Pastry> predicate) {
         requireNonNull(predicate);
+        if (isInBatch) {
+            pendingPastryPredicate = predicate;
+            return;
+        }
         filteredPastries.setPredicate(predicate);
     }
 
     @Override
     public void updateFilteredOrderList(Predicate<Order> predicate) {
         requireNonNull(predicate);
+        if (isInBatch) {
+            pendingOrderPredicate = predicate;
+            return;
+        }
         filteredOrders.setPredicate(predicate);
     }
 
@@ -0,0 +1,134 @@
+package powerbake.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Indexes the items of an {@code ObservableList} by every suffix of every word in their names, so that the items
+ * with a name word containing a keyword can be found without scanning the list.
+ * Matching is the same as {@link powerbake.address.commons.util.StringUtil#containsWordIgnoreCase(String, String)}:
+ * a keyword matches a name if any of its words contains the keyword, ignoring case.
+ * The index follows all later changes made to the list.
+ *
+ * @param <T> the type of the indexed items.
+ */
+public class NameKeywordIndex<T> implements ListChangeListener<T> {
+
+    private final Function<T, String> nameOf;
+    private final NavigableMap<String, Set<T>> itemsBySuffix = new TreeMap<>();
+
+    /**
+     * Creates a {@code NameKeywordIndex} over the items in {@code items}, whose names are given by {@code nameOf}.
+     */
+    public NameKeywordIndex(ObservableList<T> items, Function<T, String> nameOf) {
+        requireNonNull(items);
+        requireNonNull(nameOf);
+        this.nameOf = nameOf;
+        items.forEach(this::addItem);
+        items.addListener(this);
+    }
+
+    /**
+     * Returns the items with a name word that contains any of {@code keywords}, ignoring case.
+     * The returned set holds the indexed items themselves and compares them by identity.
+     * It is a copy, so it is not affected by later changes to the indexed items.
+     */
+    public Set<T> find(List<String> keywords) {
+        requireNonNull(keywords);
+        Set<T> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        getMatchingItemSets(keywords).forEach(matches::addAll);
+        return matches;
+    }
+
+    /**
+     * Returns an upper bound on the number of items {@link #find(List)} returns for {@code keywords}, without
+     * collecting the items. Items with several words matching the keywords are counted once for each of them.
+     */
+    public int estimateMatchCount(List<String> keywords) {
+        requireNonNull(keywords);
+        int count = 0;
+        for (Set<T> items : getMatchingItemSets(keywords)) {
+            count += items.size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the sets of items indexed by the suffixes that start with any of {@code keywords}, ignoring case.
+     */
+    private List<Set<T>> getMatchingItemSets(List<String> keywords) {
+        List<Set<T>> itemSets = new ArrayList<>();
+        for (String keyword : keywords) {
+            String lowerCaseKeyword = keyword.trim().toLowerCase();
+            if (lowerCaseKeyword.isEmpty()) {
+                continue;
+            }
+            // every suffix starting with the keyword belongs to a word containing the keyword
+            for (Map.Entry<String, Set<T>> entry : itemsBySuffix.tailMap(lowerCaseKeyword, true).entrySet()) {
+                if (!entry.getKey().startsWith(lowerCaseKeyword)) {
+                    break;
+                }
+                itemSets.add(entry.getValue());
+            }
+        }
+        return itemSets;
+    }
+
+    @Override
+    public void onChanged(Change<? extends T> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::removeItem);
+            change.getAddedSubList().forEach(this::addItem);
+        }
+    }
+
+    private void addItem(T item) {
+        for (String suffix : getSuffixes(item)) {
+            itemsBySuffix.computeIfAbsent(suffix, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(item);
+        }
+    }
+
+    private void removeItem(T item) {
+        for (String suffix : getSuffixes(item)) {
+            Set<T> items = itemsBySuffix.get(suffix);
+            if (items == null) {
+                continue;
+            }
+            items.remove(item);
+            if (items.isEmpty()) {
+                itemsBySuffix.remove(suffix);
+            }
+        }
+    }
+
+    /**
+     * Returns the distinct suffixes of the lower case words in the name of {@code item}.
+     */
+    private Set<String> getSuffixes(T item) {
+        Set<String> suffixes = new HashSet<>();
+        for (String word : nameOf.apply(item).split("\\s+")) {
+            String lowerCaseWord = word.toLowerCase();
+            for (int i = 0; i < lowerCaseWord.length(); i++) {
+                suffixes.add(lowerCaseWord.substring(i));
+            }
+        }
+        return suffixes;
+    }
+}
@@ -0,0 +1,123 @@
+package powerbake.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import powerbake.address.model.order.Order;
+import powerbake.address.model.order.OrderItem;
+import powerbake.address.model.order.OrderStatus;
+import powerbake.address.model.pastry.Pastry;
+
+/**
+ * Keeps count of how many of each pastry are still to be baked for the orders of an {@code ObservableList},
+ * i.e. the total quantity of the pastry in the orders that are pending or processing.
+ * Each pastry has a slot in a table of counts, which is kept up to date as the orders change, so that the counts
+ * are read without going through the orders and their items.
+ * Pastries are identified by their name, ignoring case, as in {@link Pastry#isSamePastry(Object)},
+ * and are listed under the name they were last ordered with.
+ * Slots are never freed, so a pastry that is no longer ordered keeps its slot with a count of zero.
+ */
+public class ProductionPlan implements ListChangeListener<Order> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<String, Integer> slotByPastry = new HashMap<>();
+    private String[] pastryNames = new String[INITIAL_CAPACITY];
+    private int[] quantities = new int[INITIAL_CAPACITY];
+    private int slotCount;
+
+    /**
+     * Creates a {@code ProductionPlan} for the orders in {@code orders}.
+     */
+    public ProductionPlan(ObservableList<Order> orders) {
+        requireNonNull(orders);
+        orders.forEach(this::addOrder);
+        orders.addListener(this);
+    }
+
+    /**
+     * Returns true if the pastries of {@code order} are still to be baked.
+     */
+    public static boolean isOutstanding(Order order) {
+        return order.getStatus() == OrderStatus.PENDING || order.getStatus() == OrderStatus.PROCESSING;
+    }
+
+    /**
+     * Returns how many of {@code pastry} are still to be baked.
+     */
+    public int getQuantity(Pastry pastry) {
+        requireNonNull(pastry);
+        Integer slot = slotByPastry.get(getPastryKey(pastry));
+        return slot == null ? 0 : quantities[slot];
+    }
+
+    /**
+     * Returns the names of the pastries that are still to be baked, mapped to how many of each are to be baked,
+     * in the order in which the pastries were first ordered.
+     */
+    public Map<String, Integer> getQuantities() {
+        Map<String, Integer> outstandingQuantities = new LinkedHashMap<>();
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (quantities[slot] > 0) {
+                outstandingQuantities.put(pastryNames[slot], quantities[slot]);
+            }
+        }
+        return outstandingQuantities;
+    }
+
+    @Override
+    public void onChanged(Change<? extends Order> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::removeOrder);
+            change.getAddedSubList().forEach(this::addOrder);
+        }
+    }
+
+    private void addOrder(Order order) {
+        if (!isOutstanding(order)) {
+            return;
+        }
+        for (OrderItem item : order.getOrderItems()) {
+            int slot = getOrCreateSlot(item.getPastry());
+            pastryNames[slot] = item.getPastry().getName().name;
+            quantities[slot] = Math.addExact(quantities[slot], item.getQuantity());
+        }
+    }
+
+    private void removeOrder(Order order) {
+        if (!isOutstanding(order)) {
+            return;
+        }
+        for (OrderItem item : order.getOrderItems()) {
+            Integer slot = slotByPastry.get(getPastryKey(item.getPastry()));
+            assert slot != null && quantities[slot] >= item.getQuantity();
+            quantities[slot] -= item.getQuantity();
+        }
+    }
+
+    private int getOrCreateSlot(Pastry pastry) {
+        Integer slot = slotByPastry.get(getPastryKey(pastry));
+        if (slot != null) {
+            return slot;
+        }
+        if (slotCount == quantities.length) {
+            quantities = Arrays.copyOf(quantities, slotCount * 2);
+            pastryNames = Arrays.copyOf(pastryNames, slotCount * 2);
+        }
+        slotByPastry.put(getPastryKey(pastry), slotCount);
+        return slotCount++;
+    }
+
+    private static String getPastryKey(Pastry pastry) {
+        return pastry.getName().name.toLowerCase();
+    }
+}
@@ -27,4 +27,30 @@ public interface ReadOnlyAddressBook {
      * This list will not contain any duplicate orders.
      */
     ObservableList<Order> getOrderList();
+
+    /**
+     * Returns the number of changes made to the persons list so far.
+     * The count only ever increases, so comparing it with an earlier value tells whether the list has changed since.
+     */
+    long getPersonModificationCount();
+
+    /**
+     * Returns the number of changes made to the pastries list so far.
+     * @see #getPersonModificationCount()
+     */
+    long getPastryModificationCount();
+
+    /**
+     * Returns the number of changes made to the orders list so far.
+     * @see #getPersonModificationCount()
+     */
+    long getOrderModificationCount();
+
+    /**
+     * Returns the number of changes made to the address book so far.
+     * @see #getPersonModificationCount()
+     */
+    default long getModificationCount() {
+        return getPersonModificationCount() + getPastryModificationCount() + getOrderModificationCount();
+    }
 }
@@ -13,4 +13,22 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns true if changes to the address book should be appended to a journal
+     * instead of rewriting the whole data file on every save.
+     */
+    boolean isJournalEnabled();
+
+    /**
+     * Returns true if the address book should be stored in the compact binary format
+     * instead of JSON, next to the JSON data file.
+     */
+    boolean isBinaryStorageEnabled();
+
+    /**
+     * Returns the number of days after which delivered and cancelled orders are moved to the order archive
+     * on startup, or a non-positive number if orders should not be archived.
+     */
+    int getOrderArchiveAgeDays();
+
 }
@@ -0,0 +1,127 @@
+package powerbake.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import powerbake.address.model.order.Order;
+import powerbake.address.model.order.OrderItem;
+import powerbake.address.model.order.OrderStatus;
+import powerbake.address.model.pastry.Pastry;
+import powerbake.address.model.person.Person;
+import powerbake.address.model.person.Phone;
+
+/**
+ * Keeps running {@code SalesTotals} of the orders of an {@code ObservableList}, in total and per day, per pastry
+ * and per customer, so that sales can be read without going through the orders.
+ * Cancelled orders do not count towards any sales.
+ * The totals follow all later changes made to the list, and each change only costs time proportional to the number
+ * of items in the orders changed.
+ */
+public class SalesAggregates implements ListChangeListener<Order> {
+
+    private SalesTotals overallTotals = SalesTotals.NONE;
+    private final Map<LocalDate, SalesTotals> totalsByDay = new HashMap<>();
+    // pastries are identified by their name, ignoring case, as in Pastry#isSamePastry
+    private final Map<String, SalesTotals> totalsByPastry = new HashMap<>();
+    private final Map<Phone, SalesTotals> totalsByCustomer = new HashMap<>();
+
+    /**
+     * Creates a {@code SalesAggregates} over the orders in {@code orders}.
+     */
+    public SalesAggregates(ObservableList<Order> orders) {
+        requireNonNull(orders);
+        orders.forEach(this::addOrder);
+        orders.addListener(this);
+    }
+
+    /**
+     * Returns the sales of all orders.
+     */
+    public SalesTotals getTotals() {
+        return overallTotals;
+    }
+
+    /**
+     * Returns the sales of the orders placed on {@code date}.
+     */
+    public SalesTotals getTotalsOn(LocalDate date) {
+        requireNonNull(date);
+        return totalsByDay.getOrDefault(date, SalesTotals.NONE);
+    }
+
+    /**
+     * Returns the sales of {@code pastry}, i.e. the orders that contain it, how many of it they contain and
+     * the price paid for it.
+     */
+    public SalesTotals getTotalsOf(Pastry pastry) {
+        requireNonNull(pastry);
+        return totalsByPastry.getOrDefault(getPastryKey(pastry), SalesTotals.NONE);
+    }
+
+    /**
+     * Returns the sales of the orders placed by the customer with the same identity as {@code customer}.
+     */
+    public SalesTotals getTotalsOf(Person customer) {
+        requireNonNull(customer);
+        return totalsByCustomer.getOrDefault(customer.getPhone(), SalesTotals.NONE);
+    }
+
+    @Override
+    public void onChanged(Change<? extends Order> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::removeOrder);
+            change.getAddedSubList().forEach(this::addOrder);
+        }
+    }
+
+    private void addOrder(Order order) {
+        updateTotals(order, true);
+    }
+
+    private void removeOrder(Order order) {
+        updateTotals(order, false);
+    }
+
+    private void updateTotals(Order order, boolean isAdded) {
+        if (order.getStatus() == OrderStatus.CANCELLED) {
+            return;
+        }
+
+        long orderQuantity = 0;
+        for (OrderItem item : order.getOrderItems()) {
+            orderQuantity += item.getQuantity();
+            SalesTotals itemTotals = new SalesTotals(1, item.getQuantity(), item.getSubtotalCents());
+            update(totalsByPastry, getPastryKey(item.getPastry()), itemTotals, isAdded);
+        }
+
+        SalesTotals orderTotals = new SalesTotals(1, orderQuantity, order.getTotalCents());
+        overallTotals = isAdded ? overallTotals.plus(orderTotals) : overallTotals.minus(orderTotals);
+        update(totalsByDay, order.getOrderDate().toLocalDate(), orderTotals, isAdded);
+        update(totalsByCustomer, order.getCustomer().getPhone(), orderTotals, isAdded);
+    }
+
+    /**
+     * Adds {@code totals} to, or removes them from, the totals of {@code key}, dropping keys with no orders left.
+     */
+    private static <K> void update(Map<K, SalesTotals> totalsByKey, K key, SalesTotals totals, boolean isAdded) {
+        SalesTotals current = totalsByKey.getOrDefault(key, SalesTotals.NONE);
+        SalesTotals updated = isAdded ? current.plus(totals) : current.minus(totals);
+        if (updated.getOrderCount() == 0) {
+            totalsByKey.remove(key);
+        } else {
+            totalsByKey.put(key, updated);
+        }
+    }
+
+    private static String getPastryKey(Pastry pastry) {
+        return pastry.getName().name.toLowerCase();
+    }
+}
@@ -0,0 +1,86 @@
+package powerbake.address.model;
+
+import powerbake.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents the sales made by a group of orders: how many orders there are, how many pastries they contain,
+ * and their total price in cents.
+ * Guarantees: immutable.
+ */
+public class SalesTotals {
+
+    /** The sales of no orders. */
+    public static final SalesTotals NONE = new SalesTotals(0, 0, 0);
+
+    private final int orderCount;
+    private final long quantity;
+    private final long revenueCents;
+
+    /**
+     * Creates a {@code SalesTotals} with the given counts and revenue.
+     */
+    public SalesTotals(int orderCount, long quantity, long revenueCents) {
+        this.orderCount = orderCount;
+        this.quantity = quantity;
+        this.revenueCents = revenueCents;
+    }
+
+    public int getOrderCount() {
+        return orderCount;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public long getRevenueCents() {
+        return revenueCents;
+    }
+
+    /**
+     * Returns the sales of these orders together with the orders of {@code other}.
+     */
+    public SalesTotals plus(SalesTotals other) {
+        return new SalesTotals(Math.addExact(orderCount, other.orderCount), Math.addExact(quantity, other.quantity),
+                Math.addExact(revenueCents, other.revenueCents));
+    }
+
+    /**
+     * Returns the sales of these orders without the orders of {@code other}, which must be among them.
+     */
+    public SalesTotals minus(SalesTotals other) {
+        return new SalesTotals(orderCount - other.orderCount, quantity - other.quantity,
+                revenueCents - other.revenueCents);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SalesTotals)) {
+            return false;
+        }
+
+        SalesTotals otherTotals = (SalesTotals) other;
+        return orderCount == otherTotals.orderCount
+                && quantity == otherTotals.quantity
+                && revenueCents == otherTotals.revenueCents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(31 * (31L * orderCount + quantity) + revenueCents);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("orderCount", orderCount)
+                .add("quantity", quantity)
+                .add("revenueCents", revenueCents)
+                .toString();
+    }
+}
@@ -0,0 +1,220 @@
+package powerbake.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Indexes the items of an {@code ObservableList} by the trigrams (runs of three characters) of the words in their
+ * names, so that items whose names are spelt similarly to a keyword can be found without scanning the list.
+ * Each word is padded with two leading spaces and one trailing space, so that the start and end of a word
+ * also count towards its similarity to a keyword.
+ * The index follows all later changes made to the list.
+ *
+ * @param <T> the type of the indexed items.
+ */
+public class TrigramIndex<T> implements ListChangeListener<T> {
+
+    /** The fraction of the trigrams of a keyword that must be found in a name word for the name to match. */
+    public static final double MATCH_THRESHOLD = 0.5;
+
+    private final Function<T, String> nameOf;
+    private final Map<String, Set<WordEntry<T>>> entriesByTrigram = new HashMap<>();
+
+    /**
+     * Creates a {@code TrigramIndex} over the items in {@code items}, whose names are given by {@code nameOf}.
+     */
+    public TrigramIndex(ObservableList<T> items, Function<T, String> nameOf) {
+        requireNonNull(items);
+        requireNonNull(nameOf);
+        this.nameOf = nameOf;
+        items.forEach(this::addItem);
+        items.addListener(this);
+    }
+
+    /**
+     * Returns the items with a name word that is spelt similarly to any of {@code keywords}, ignoring case,
+     * with the closest matches first.
+     * A name word matches a keyword if it shares at least {@link #MATCH_THRESHOLD} of the keyword's trigrams.
+     * Items that match equally well are ordered by how few other trigrams the matching word has.
+     */
+    public List<T> find(List<String> keywords) {
+        requireNonNull(keywords);
+        Map<T, Double> scores = new IdentityHashMap<>();
+        Map<T, Integer> extraTrigrams = new IdentityHashMap<>();
+
+        for (String keyword : keywords) {
+            Set<String> keywordTrigrams = getTrigrams(keyword.trim().toLowerCase());
+            if (keywordTrigrams.isEmpty()) {
+                continue;
+            }
+
+            Map<WordEntry<T>, Integer> sharedTrigrams = new HashMap<>();
+            for (String trigram : keywordTrigrams) {
+                for (WordEntry<T> entry : entriesByTrigram.getOrDefault(trigram, Collections.emptySet())) {
+                    sharedTrigrams.merge(entry, 1, Integer::sum);
+                }
+            }
+
+            for (Map.Entry<WordEntry<T>, Integer> shared : sharedTrigrams.entrySet()) {
+                double score = (double) shared.getValue() / keywordTrigrams.size();
+                if (score < MATCH_THRESHOLD) {
+                    continue;
+                }
+                T item = shared.getKey().item;
+                int extra = shared.getKey().trigramCount - shared.getValue();
+                Double bestScore = scores.get(item);
+                if (bestScore == null || score > bestScore
+                        || (score == bestScore && extra < extraTrigrams.get(item))) {
+                    scores.put(item, score);
+                    extraTrigrams.put(item, extra);
+                }
+            }
+        }
+
+        List<T> matches = new ArrayList<>(scores.keySet());
+        matches.sort((first, second) -> {
+            int byScore = Double.compare(scores.get(second), scores.get(first));
+            return byScore != 0 ? byScore : Integer.compare(extraTrigrams.get(first), extraTrigrams.get(second));
+        });
+        return matches;
+    }
+
+    /**
+     * Returns a predicate that tests whether the name of an item, given by {@code nameOf}, has a word that is spelt
+     * similarly to any of {@code keywords}, in the same way as {@link #find(List)}, but without an index.
+     */
+    public static <T> Predicate<T> similarNamePredicate(List<String> keywords, Function<T, String> nameOf) {
+        requireNonNull(keywords);
+        requireNonNull(nameOf);
+        List<Set<String>> keywordTrigramSets = new ArrayList<>();
+        for (String keyword : keywords) {
+            Set<String> keywordTrigrams = getTrigrams(keyword.trim().toLowerCase());
+            if (!keywordTrigrams.isEmpty()) {
+                keywordTrigramSets.add(keywordTrigrams);
+            }
+        }
+        return item -> {
+            for (String word : splitWords(nameOf.apply(item))) {
+                Set<String> wordTrigrams = getTrigrams(word);
+                for (Set<String> keywordTrigrams : keywordTrigramSets) {
+                    long sharedCount = keywordTrigrams.stream().filter(wordTrigrams::contains).count();
+                    if ((double) sharedCount / keywordTrigrams.size() >= MATCH_THRESHOLD) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        };
+    }
+
+    @Override
+    public void onChanged(Change<? extends T> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::removeItem);
+            change.getAddedSubList().forEach(this::addItem);
+        }
+    }
+
+    private void addItem(T item) {
+        String[] words = getWords(item);
+        for (int i = 0; i < words.length; i++) {
+            Set<String> trigrams = getTrigrams(words[i]);
+            WordEntry<T> entry = new WordEntry<>(item, i, trigrams.size());
+            for (String trigram : trigrams) {
+                entriesByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(entry);
+            }
+        }
+    }
+
+    private void removeItem(T item) {
+        String[] words = getWords(item);
+        for (int i = 0; i < words.length; i++) {
+            Set<String> trigrams = getTrigrams(words[i]);
+            WordEntry<T> entry = new WordEntry<>(item, i, trigrams.size());
+            for (String trigram : trigrams) {
+                Set<WordEntry<T>> entries = entriesByTrigram.get(trigram);
+                if (entries == null) {
+                    continue;
+                }
+                entries.remove(entry);
+                if (entries.isEmpty()) {
+                    entriesByTrigram.remove(trigram);
+                }
+            }
+        }
+    }
+
+    private String[] getWords(T item) {
+        return splitWords(nameOf.apply(item));
+    }
+
+    private static String[] splitWords(String name) {
+        return name.trim().toLowerCase().split("\\s+");
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code word}, padded as described in {@link TrigramIndex}.
+     */
+    private static Set<String> getTrigrams(String word) {
+        Set<String> trigrams = new HashSet<>();
+        if (word.isEmpty()) {
+            return trigrams;
+        }
+        String padded = "  " + word + " ";
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * A word in the name of an indexed item.
+     * Entries are equal if they are the same word of the same item (compared by identity).
+     */
+    private static class WordEntry<T> {
+        private final T item;
+        private final int position;
+        private final int trigramCount;
+
+        WordEntry(T item, int position, int trigramCount) {
+            this.item = item;
+            this.position = position;
+            this.trigramCount = trigramCount;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof WordEntry)) {
+                return false;
+            }
+
+            WordEntry<?> otherEntry = (WordEntry<?>) other;
+            return item == otherEntry.item && position == otherEntry.position;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(item) + position;
+        }
+    }
+}
@@ -15,6 +15,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private boolean journalEnabled = false;
+    private boolean binaryStorageEnabled = false;
+    private int orderArchiveAgeDays = 0;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +39,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setJournalEnabled(newUserPrefs.isJournalEnabled());
+        setBinaryStorageEnabled(newUserPrefs.isBinaryStorageEnabled());
+        setOrderArchiveAgeDays(newUserPrefs.getOrderArchiveAgeDays());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +62,30 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public boolean isJournalEnabled() {
+        return journalEnabled;
+    }
+
+    public void setJournalEnabled(boolean journalEnabled) {
+        this.journalEnabled = journalEnabled;
+    }
+
+    public boolean isBinaryStorageEnabled() {
+        return binaryStorageEnabled;
+    }
+
+    public void setBinaryStorageEnabled(boolean binaryStorageEnabled) {
+        this.binaryStorageEnabled = binaryStorageEnabled;
+    }
+
+    public int getOrderArchiveAgeDays() {
+        return orderArchiveAgeDays;
+    }
+
+    public void setOrderArchiveAgeDays(int orderArchiveAgeDays) {
+        this.orderArchiveAgeDays = orderArchiveAgeDays;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +99,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && journalEnabled == otherUserPrefs.journalEnabled
+                && binaryStorageEnabled == otherUserPrefs.binaryStorageEnabled
+                && orderArchiveAgeDays == otherUserPrefs.orderArchiveAgeDays;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, journalEnabled, binaryStorageEnabled,
+                orderArchiveAgeDays);
     }
 
     @Override
@@ -82,6 +116,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nJournal enabled : " + journalEnabled);
+        sb.append("\nBinary storage enabled : " + binaryStorageEnabled);
+        sb.append("\nOrder archive age (days) : " + orderArchiveAgeDays);
         return sb.toString();
     }
 
@@ -0,0 +1,70 @@
+package powerbake.address.model.order;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import powerbake.address.model.person.Person;
+import powerbake.address.model.person.Phone;
+
+/**
+ * Indexes the orders of an {@code ObservableList} by the identity (i.e. the {@code Phone}) of their customer.
+ * The index follows all later changes made to the list.
+ */
+public class CustomerOrderIndex implements ListChangeListener<Order> {
+
+    private final Map<Phone, Set<Order>> ordersByCustomer = new HashMap<>();
+
+    /**
+     * Creates a {@code CustomerOrderIndex} over the orders in {@code orders}.
+     */
+    public CustomerOrderIndex(ObservableList<Order> orders) {
+        requireNonNull(orders);
+        orders.forEach(this::addOrder);
+        orders.addListener(this);
+    }
+
+    /**
+     * Returns the orders whose customer has the same identity as {@code customer}.
+     * The returned list is a copy, so it is not affected by later changes to the indexed orders.
+     */
+    public List<Order> getOrdersOf(Person customer) {
+        requireNonNull(customer);
+        return new ArrayList<>(ordersByCustomer.getOrDefault(customer.getPhone(), Collections.emptySet()));
+    }
+
+    @Override
+    public void onChanged(Change<? extends Order> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::removeOrder);
+            change.getAddedSubList().forEach(this::addOrder);
+        }
+    }
+
+    private void addOrder(Order order) {
+        ordersByCustomer.computeIfAbsent(order.getCustomer().getPhone(), unused -> new LinkedHashSet<>()).add(order);
+    }
+
+    private void removeOrder(Order order) {
+        Phone phone = order.getCustomer().getPhone();
+        Set<Order> orders = ordersByCustomer.get(phone);
+        if (orders == null) {
+            return;
+        }
+        orders.remove(order);
+        if (orders.isEmpty()) {
+            ordersByCustomer.remove(phone);
+        }
+    }
+}
@@ -11,16 +11,20 @@ import powerbake.address.commons.util.ToStringBuilder;
  */
 public class NameContainsKeywordsPredicate implements Predicate<Order> {
     private final List<String> keywords;
+    private final StringUtil.KeywordMatcher matcher;
 
+    /**
+     * Creates a predicate that matches any of {@code keywords}.
+     * Each keyword cannot be empty and must be a single word.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = StringUtil.compileKeywords(keywords);
     }
 
     @Override
     public boolean test(Order order) {
-        return keywords.stream()
-                .anyMatch(keyword
-                        -> StringUtil.containsWordIgnoreCase(order.getCustomer().getName().fullName, keyword));
+        return matcher.matchesAny(order.getCustomer().getName().fullName);
     }
 
     @Override
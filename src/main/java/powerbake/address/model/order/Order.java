@@ -15,6 +15,8 @@ import powerbake.address.model.person.Person;
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Order {
+    public static final String MESSAGE_TOTAL_TOO_LARGE = "The total price of an order is too large";
+
     // Unique identifier for the order
     private final OrderId orderId;
 
@@ -30,8 +32,13 @@ public class Order {
     // Current status of the order
     private final OrderStatus status;
 
+    // Total price of all order items in cents, computed once as the order is immutable
+    private final long totalCents;
+
     /**
      * Creates an Order with the specified details.
+     *
+     * @throws IllegalArgumentException if the total price of the order is too large to be held in cents.
      */
     public Order(Person customer, List<OrderItem> orderItems) {
         CollectionUtil.requireAllNonNull(customer, orderItems);
@@ -40,6 +47,7 @@ public class Order {
         this.orderItems = new ArrayList<>(orderItems);
         this.orderDate = LocalDateTime.now();
         this.status = OrderStatus.PENDING;
+        this.totalCents = computeTotalCents(this.orderItems);
     }
 
     /**
@@ -54,6 +62,19 @@ public class Order {
         this.orderItems = new ArrayList<>(orderItems);
         this.orderDate = orderDate;
         this.status = status;
+        this.totalCents = computeTotalCents(this.orderItems);
+    }
+
+    private static long computeTotalCents(List<OrderItem> orderItems) {
+        long total = 0;
+        try {
+            for (OrderItem orderItem : orderItems) {
+                total = Math.addExact(total, orderItem.getSubtotalCents());
+            }
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(MESSAGE_TOTAL_TOO_LARGE, e);
+        }
+        return total;
     }
 
     public OrderId getOrderId() {
@@ -98,12 +119,17 @@ public class Order {
     }
 
     /**
-     * Calculates the total price of the order based on all order items.
+     * Returns the total price of the order based on all order items, in cents.
+     */
+    public long getTotalCents() {
+        return totalCents;
+    }
+
+    /**
+     * Returns the total price of the order based on all order items.
      */
     public double getTotalPrice() {
-        return orderItems.stream()
-                .mapToDouble(OrderItem::getSubtotal)
-                .sum();
+        return totalCents / 100.0;
     }
 
     /**
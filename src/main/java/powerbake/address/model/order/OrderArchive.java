@@ -0,0 +1,30 @@
+package powerbake.address.model.order;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A read-only store of old orders that have been moved out of the address book.
+ * Archived orders are only converted into {@code Order} objects when they are searched.
+ */
+public interface OrderArchive {
+
+    /** An archive without any orders. */
+    OrderArchive EMPTY = new OrderArchive() {
+        @Override
+        public int size() {
+            return 0;
+        }
+
+        @Override
+        public List<Order> findOrders(OrderQuery query) {
+            return Collections.emptyList();
+        }
+    };
+
+    /** Returns the number of orders in the archive. */
+    int size();
+
+    /** Returns the archived orders that match {@code query}, from the oldest archived to the newest. */
+    List<Order> findOrders(OrderQuery query);
+}
@@ -0,0 +1,129 @@
+package powerbake.address.model.order;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Indexes the orders of an {@code ObservableList} by the date they were placed, so that the orders placed in a
+ * period of time can be found without scanning the list.
+ * Orders placed at the same time are ordered by their {@code OrderId}.
+ * The index follows all later changes made to the list.
+ */
+public class OrderDateIndex implements ListChangeListener<Order> {
+
+    private final NavigableMap<DateKey, Order> ordersByDate = new TreeMap<>();
+
+    /**
+     * Creates an {@code OrderDateIndex} over the orders in {@code orders}.
+     */
+    public OrderDateIndex(ObservableList<Order> orders) {
+        requireNonNull(orders);
+        orders.forEach(this::addOrder);
+        orders.addListener(this);
+    }
+
+    /**
+     * Returns the orders placed from {@code start} (inclusive) to {@code end} (exclusive), earliest first.
+     * The returned list is a copy, so it is not affected by later changes to the indexed orders.
+     */
+    public List<Order> getOrdersPlacedBetween(LocalDateTime start, LocalDateTime end) {
+        requireNonNull(start);
+        requireNonNull(end);
+        if (!start.isBefore(end)) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(ordersByDate.subMap(DateKey.lowest(start), true, DateKey.lowest(end), false).values());
+    }
+
+    /**
+     * Returns the number of orders placed from {@code start} (inclusive) to {@code end} (exclusive), or {@code limit}
+     * if there are more than {@code limit} of them. Only up to {@code limit} orders are counted.
+     */
+    public int countOrdersPlacedBetween(LocalDateTime start, LocalDateTime end, int limit) {
+        requireNonNull(start);
+        requireNonNull(end);
+        if (!start.isBefore(end)) {
+            return 0;
+        }
+        int count = 0;
+        Iterator<DateKey> keys = ordersByDate.subMap(DateKey.lowest(start), true, DateKey.lowest(end), false)
+                .keySet().iterator();
+        while (count < limit && keys.hasNext()) {
+            keys.next();
+            count++;
+        }
+        return count;
+    }
+
+    @Override
+    public void onChanged(Change<? extends Order> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::removeOrder);
+            change.getAddedSubList().forEach(this::addOrder);
+        }
+    }
+
+    private void addOrder(Order order) {
+        ordersByDate.put(DateKey.of(order), order);
+    }
+
+    private void removeOrder(Order order) {
+        DateKey key = DateKey.of(order);
+        // the order may have been replaced by an edited order with the same key, which must be kept
+        if (ordersByDate.get(key) == order) {
+            ordersByDate.remove(key);
+        }
+    }
+
+    /**
+     * The position of an order in the index, given by its date and then its {@code OrderId}.
+     */
+    private static class DateKey implements Comparable<DateKey> {
+        private final LocalDateTime date;
+        private final long mostSignificantBits;
+        private final long leastSignificantBits;
+
+        private DateKey(LocalDateTime date, long mostSignificantBits, long leastSignificantBits) {
+            this.date = date;
+            this.mostSignificantBits = mostSignificantBits;
+            this.leastSignificantBits = leastSignificantBits;
+        }
+
+        static DateKey of(Order order) {
+            OrderId orderId = order.getOrderId();
+            return new DateKey(order.getOrderDate(), orderId.getMostSignificantBits(),
+                    orderId.getLeastSignificantBits());
+        }
+
+        /**
+         * Returns a key that comes before the keys of all orders placed at {@code date}.
+         */
+        static DateKey lowest(LocalDateTime date) {
+            return new DateKey(date, Long.MIN_VALUE, Long.MIN_VALUE);
+        }
+
+        @Override
+        public int compareTo(DateKey other) {
+            int byDate = date.compareTo(other.date);
+            if (byDate != 0) {
+                return byDate;
+            }
+            int byMostSignificantBits = Long.compare(mostSignificantBits, other.mostSignificantBits);
+            return byMostSignificantBits != 0
+                    ? byMostSignificantBits
+                    : Long.compare(leastSignificantBits, other.leastSignificantBits);
+        }
+    }
+}
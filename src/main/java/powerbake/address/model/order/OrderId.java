@@ -1,24 +1,31 @@
 package powerbake.address.model.order;
 
-import java.util.Objects;
 import java.util.UUID;
 
 import powerbake.address.commons.util.CollectionUtil;
 
 /**
  * Represents a unique identifier for an Order.
+ * The identifier is a 128-bit UUID held as its two 64-bit halves, and is only converted to its string form
+ * when it is stored or displayed.
  * Guarantees: immutable; is valid as declared in {@link #isValidOrderId(String)}
  */
 public class OrderId {
     public static final String MESSAGE_CONSTRAINTS = "Order IDs should be valid UUID strings";
 
-    private final String id;
+    // length and dash positions of the canonical string form, e.g. 123e4567-e89b-12d3-a456-426614174000
+    private static final int CANONICAL_LENGTH = 36;
+    private static final int[] DASH_POSITIONS = {8, 13, 18, 23};
+
+    private final long mostSignificantBits;
+    private final long leastSignificantBits;
+    private final int hash;
 
     /**
      * Constructs an OrderId with a new random UUID.
      */
     public OrderId() {
-        this.id = UUID.randomUUID().toString();
+        this(UUID.randomUUID());
     }
 
     /**
@@ -29,30 +36,105 @@ public class OrderId {
     public OrderId(String id) {
         CollectionUtil.requireAllNonNull(id);
 
-        if (!isValidOrderId(id)) {
-            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+        if (isCanonical(id)) {
+            mostSignificantBits = parseHex(id, 0, DASH_POSITIONS[2]);
+            leastSignificantBits = parseHex(id, DASH_POSITIONS[2] + 1, CANONICAL_LENGTH);
+        } else {
+            // other forms accepted by UUID.fromString, e.g. with leading zeros left out
+            UUID uuid;
+            try {
+                uuid = UUID.fromString(id);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+            }
+            mostSignificantBits = uuid.getMostSignificantBits();
+            leastSignificantBits = uuid.getLeastSignificantBits();
         }
-        this.id = id;
+        hash = hash(mostSignificantBits, leastSignificantBits);
+    }
+
+    /**
+     * Constructs an OrderId with the specified halves of its UUID.
+     */
+    public OrderId(long mostSignificantBits, long leastSignificantBits) {
+        this.mostSignificantBits = mostSignificantBits;
+        this.leastSignificantBits = leastSignificantBits;
+        this.hash = hash(mostSignificantBits, leastSignificantBits);
+    }
+
+    private OrderId(UUID uuid) {
+        this(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
     }
 
     /**
      * Returns true if a given string is a valid order ID.
      */
     public static boolean isValidOrderId(String test) {
+        if (test == null) {
+            return false;
+        }
+        if (isCanonical(test)) {
+            return true;
+        }
         try {
-            CollectionUtil.requireAllNonNull(test);
             UUID.fromString(test);
             return true;
         } catch (IllegalArgumentException e) {
             return false;
-        } catch (NullPointerException e) {
+        }
+    }
+
+    /**
+     * Returns true if {@code test} is a UUID in its canonical form of 32 hexadecimal digits in groups of 8-4-4-4-12.
+     */
+    private static boolean isCanonical(String test) {
+        if (test.length() != CANONICAL_LENGTH) {
             return false;
         }
+        int nextDash = 0;
+        for (int i = 0; i < CANONICAL_LENGTH; i++) {
+            char c = test.charAt(i);
+            if (nextDash < DASH_POSITIONS.length && i == DASH_POSITIONS[nextDash]) {
+                if (c != '-') {
+                    return false;
+                }
+                nextDash++;
+            } else if (Character.digit(c, 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the value of the hexadecimal digits of {@code s} from {@code start} to {@code end}, skipping dashes.
+     */
+    private static long parseHex(String s, int start, int end) {
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c != '-') {
+                value = (value << 4) | Character.digit(c, 16);
+            }
+        }
+        return value;
+    }
+
+    private static int hash(long mostSignificantBits, long leastSignificantBits) {
+        return Long.hashCode(mostSignificantBits ^ leastSignificantBits);
+    }
+
+    public long getMostSignificantBits() {
+        return mostSignificantBits;
+    }
+
+    public long getLeastSignificantBits() {
+        return leastSignificantBits;
     }
 
     @Override
     public String toString() {
-        return id;
+        return new UUID(mostSignificantBits, leastSignificantBits).toString();
     }
 
     @Override
@@ -66,11 +148,12 @@ public class OrderId {
         }
 
         OrderId otherId = (OrderId) other;
-        return id.equals(otherId.id);
+        return mostSignificantBits == otherId.mostSignificantBits
+                && leastSignificantBits == otherId.leastSignificantBits;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id);
+        return hash;
     }
 }
@@ -11,11 +11,17 @@ import powerbake.address.model.pastry.Pastry;
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class OrderItem {
+    public static final String MESSAGE_SUBTOTAL_TOO_LARGE = "The subtotal of an order item is too large";
+
     private final Pastry pastry;
     private final int quantity;
+    private final long subtotalCents;
 
     /**
      * Creates an OrderItem with the specified pastry and quantity.
+     *
+     * @throws IllegalArgumentException if the quantity is not positive, or the subtotal is too large to be held
+     *     in cents.
      */
     public OrderItem(Pastry pastry, int quantity) {
         CollectionUtil.requireAllNonNull(pastry);
@@ -24,6 +30,11 @@ public class OrderItem {
         }
         this.pastry = pastry;
         this.quantity = quantity;
+        try {
+            this.subtotalCents = Math.multiplyExact(pastry.getPrice().getCents(), quantity);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(MESSAGE_SUBTOTAL_TOO_LARGE, e);
+        }
     }
 
     public Pastry getPastry() {
@@ -35,10 +46,17 @@ public class OrderItem {
     }
 
     /**
-     * Calculates the subtotal for this order item (price × quantity).
+     * Returns the subtotal for this order item (price × quantity) in cents.
+     */
+    public long getSubtotalCents() {
+        return subtotalCents;
+    }
+
+    /**
+     * Returns the subtotal for this order item (price × quantity).
      */
     public double getSubtotal() {
-        return pastry.getPrice().getValueOfAmount() * quantity;
+        return subtotalCents / 100.0;
     }
 
     @Override
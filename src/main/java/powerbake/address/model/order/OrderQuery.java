@@ -0,0 +1,234 @@
+package powerbake.address.model.order;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import powerbake.address.commons.util.ToStringBuilder;
+import powerbake.address.model.pastry.Pastry;
+
+/**
+ * Represents a query for the orders that match all of its conditions, e.g. the pending orders placed on or after
+ * a date that contain a croissant. A condition that is not given matches every order.
+ * The conditions are compiled once into a single predicate that tests the cheapest conditions first.
+ * Guarantees: immutable.
+ */
+public class OrderQuery implements Predicate<Order> {
+
+    private final List<String> customerKeywords;
+    private final List<String> pastryKeywords;
+    private final OrderStatus status;
+    private final LocalDate fromDate;
+    private final LocalDate toDate;
+    private final Long minTotalCents;
+    private final Long maxTotalCents;
+    private final List<Predicate<Order>> plan;
+
+    /**
+     * Creates an {@code OrderQuery} without any conditions, which matches every order.
+     */
+    public OrderQuery() {
+        this(List.of(), List.of(), null, null, null, null, null);
+    }
+
+    private OrderQuery(List<String> customerKeywords, List<String> pastryKeywords, OrderStatus status,
+            LocalDate fromDate, LocalDate toDate, Long minTotalCents, Long maxTotalCents) {
+        this.customerKeywords = List.copyOf(customerKeywords);
+        this.pastryKeywords = List.copyOf(pastryKeywords);
+        this.status = status;
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+        this.minTotalCents = minTotalCents;
+        this.maxTotalCents = maxTotalCents;
+        this.plan = compile();
+    }
+
+    /**
+     * Returns a copy of this query that only matches orders whose customer name contains any of {@code keywords}.
+     */
+    public OrderQuery withCustomerKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        return new OrderQuery(keywords, pastryKeywords, status, fromDate, toDate, minTotalCents, maxTotalCents);
+    }
+
+    /**
+     * Returns a copy of this query that only matches orders with a pastry whose name contains any of
+     * {@code keywords}.
+     */
+    public OrderQuery withPastryKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        return new OrderQuery(customerKeywords, keywords, status, fromDate, toDate, minTotalCents, maxTotalCents);
+    }
+
+    /**
+     * Returns a copy of this query that only matches orders with the given {@code status}.
+     */
+    public OrderQuery withStatus(OrderStatus status) {
+        requireNonNull(status);
+        return new OrderQuery(customerKeywords, pastryKeywords, status, fromDate, toDate, minTotalCents,
+                maxTotalCents);
+    }
+
+    /**
+     * Returns a copy of this query that only matches orders placed on or after {@code fromDate}.
+     */
+    public OrderQuery withFromDate(LocalDate fromDate) {
+        requireNonNull(fromDate);
+        return new OrderQuery(customerKeywords, pastryKeywords, status, fromDate, toDate, minTotalCents,
+                maxTotalCents);
+    }
+
+    /**
+     * Returns a copy of this query that only matches orders placed on or before {@code toDate}.
+     */
+    public OrderQuery withToDate(LocalDate toDate) {
+        requireNonNull(toDate);
+        return new OrderQuery(customerKeywords, pastryKeywords, status, fromDate, toDate, minTotalCents,
+                maxTotalCents);
+    }
+
+    /**
+     * Returns a copy of this query that only matches orders with a total of at least {@code minTotalCents}.
+     */
+    public OrderQuery withMinTotalCents(long minTotalCents) {
+        return new OrderQuery(customerKeywords, pastryKeywords, status, fromDate, toDate, minTotalCents,
+                maxTotalCents);
+    }
+
+    /**
+     * Returns a copy of this query that only matches orders with a total of at most {@code maxTotalCents}.
+     */
+    public OrderQuery withMaxTotalCents(long maxTotalCents) {
+        return new OrderQuery(customerKeywords, pastryKeywords, status, fromDate, toDate, minTotalCents,
+                maxTotalCents);
+    }
+
+    public List<String> getCustomerKeywords() {
+        return customerKeywords;
+    }
+
+    public List<String> getPastryKeywords() {
+        return pastryKeywords;
+    }
+
+    public Optional<OrderStatus> getStatus() {
+        return Optional.ofNullable(status);
+    }
+
+    public Optional<LocalDate> getFromDate() {
+        return Optional.ofNullable(fromDate);
+    }
+
+    public Optional<LocalDate> getToDate() {
+        return Optional.ofNullable(toDate);
+    }
+
+    /**
+     * Returns true if this query has a condition other than on the customer name.
+     */
+    public boolean hasConditionsOtherThanCustomer() {
+        return !pastryKeywords.isEmpty() || status != null || fromDate != null || toDate != null
+                || minTotalCents != null || maxTotalCents != null;
+    }
+
+    @Override
+    public boolean test(Order order) {
+        for (Predicate<Order> condition : plan) {
+            if (!condition.test(order)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the conditions of this query as predicates, with the cheapest to test first.
+     */
+    private List<Predicate<Order>> compile() {
+        List<Predicate<Order>> conditions = new ArrayList<>();
+        if (status != null) {
+            OrderStatus wantedStatus = status;
+            conditions.add(order -> order.getStatus() == wantedStatus);
+        }
+        if (fromDate != null) {
+            LocalDateTime start = fromDate.atStartOfDay();
+            conditions.add(order -> !order.getOrderDate().isBefore(start));
+        }
+        if (toDate != null) {
+            LocalDateTime end = toDate.plusDays(1).atStartOfDay();
+            conditions.add(order -> order.getOrderDate().isBefore(end));
+        }
+        if (minTotalCents != null) {
+            long min = minTotalCents;
+            conditions.add(order -> order.getTotalCents() >= min);
+        }
+        if (maxTotalCents != null) {
+            long max = maxTotalCents;
+            conditions.add(order -> order.getTotalCents() <= max);
+        }
+        if (!customerKeywords.isEmpty()) {
+            conditions.add(new NameContainsKeywordsPredicate(customerKeywords));
+        }
+        if (!pastryKeywords.isEmpty()) {
+            Predicate<Pastry> pastryPredicate =
+                    new powerbake.address.model.pastry.NameContainsKeywordsPredicate(pastryKeywords);
+            conditions.add(order -> hasPastryMatching(order, pastryPredicate));
+        }
+        return List.copyOf(conditions);
+    }
+
+    private static boolean hasPastryMatching(Order order, Predicate<Pastry> pastryPredicate) {
+        for (OrderItem item : order.getOrderItems()) {
+            if (pastryPredicate.test(item.getPastry())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OrderQuery)) {
+            return false;
+        }
+
+        OrderQuery otherQuery = (OrderQuery) other;
+        return customerKeywords.equals(otherQuery.customerKeywords)
+                && pastryKeywords.equals(otherQuery.pastryKeywords)
+                && Objects.equals(status, otherQuery.status)
+                && Objects.equals(fromDate, otherQuery.fromDate)
+                && Objects.equals(toDate, otherQuery.toDate)
+                && Objects.equals(minTotalCents, otherQuery.minTotalCents)
+                && Objects.equals(maxTotalCents, otherQuery.maxTotalCents);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(customerKeywords, pastryKeywords, status, fromDate, toDate, minTotalCents,
+                maxTotalCents);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("customerKeywords", customerKeywords)
+                .add("pastryKeywords", pastryKeywords)
+                .add("status", status)
+                .add("fromDate", fromDate)
+                .add("toDate", toDate)
+                .add("minTotalCents", minTotalCents)
+                .add("maxTotalCents", maxTotalCents)
+                .toString();
+    }
+}
@@ -0,0 +1,190 @@
+package powerbake.address.model.order;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Partitions the orders of an {@code ObservableList} by their {@code OrderStatus}, so that the orders with a status,
+ * and how many there are, can be read without filtering the list.
+ * Each status has its own list of orders, in the order in which they were added to the list or changed to that
+ * status. Editing an order without changing its status keeps its place.
+ * The position of every order in its status list is indexed, so that small changes do not need to scan the list,
+ * and changes to more than {@link #BULK_CHANGE_THRESHOLD} orders at once rebuild the status lists in a single pass.
+ * The index follows all later changes made to the list.
+ */
+public class OrderStatusIndex implements ListChangeListener<Order> {
+
+    /** The number of orders removed and added by a single change above which the status lists are rebuilt. */
+    public static final int BULK_CHANGE_THRESHOLD = 64;
+
+    private final Map<OrderStatus, ObservableList<Order>> ordersByStatus = new EnumMap<>(OrderStatus.class);
+    private final Map<OrderStatus, ObservableList<Order>> unmodifiableOrdersByStatus =
+            new EnumMap<>(OrderStatus.class);
+    private final Map<OrderStatus, Map<Order, Integer>> positionsByStatus = new EnumMap<>(OrderStatus.class);
+
+    /**
+     * Creates an {@code OrderStatusIndex} over the orders in {@code orders}.
+     */
+    public OrderStatusIndex(ObservableList<Order> orders) {
+        requireNonNull(orders);
+        for (OrderStatus status : OrderStatus.values()) {
+            ObservableList<Order> bucket = FXCollections.observableArrayList();
+            ordersByStatus.put(status, bucket);
+            unmodifiableOrdersByStatus.put(status, FXCollections.unmodifiableObservableList(bucket));
+            positionsByStatus.put(status, new IdentityHashMap<>());
+        }
+        rebuildOrders(List.of(), orders, 0);
+        orders.addListener(this);
+    }
+
+    /**
+     * Returns an unmodifiable view of the orders with the given {@code status}, which follows all later changes
+     * made to the indexed list.
+     */
+    public ObservableList<Order> getOrders(OrderStatus status) {
+        requireNonNull(status);
+        return unmodifiableOrdersByStatus.get(status);
+    }
+
+    /**
+     * Returns the number of orders with the given {@code status}.
+     */
+    public int count(OrderStatus status) {
+        requireNonNull(status);
+        return ordersByStatus.get(status).size();
+    }
+
+    @Override
+    public void onChanged(Change<? extends Order> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            List<? extends Order> removed = change.getRemoved();
+            List<? extends Order> added = change.getAddedSubList();
+            int replacedCount = change.wasReplaced() ? Math.min(removed.size(), added.size()) : 0;
+            if (removed.size() + added.size() > BULK_CHANGE_THRESHOLD) {
+                rebuildOrders(removed, added, replacedCount);
+                continue;
+            }
+            for (int i = 0; i < replacedCount; i++) {
+                replaceOrder(removed.get(i), added.get(i));
+            }
+            removed.subList(replacedCount, removed.size()).forEach(this::removeOrder);
+            added.subList(replacedCount, added.size()).forEach(this::addOrder);
+        }
+    }
+
+    private void addOrder(Order order) {
+        ObservableList<Order> bucket = ordersByStatus.get(order.getStatus());
+        positionsByStatus.get(order.getStatus()).put(order, bucket.size());
+        bucket.add(order);
+    }
+
+    private void removeOrder(Order order) {
+        ObservableList<Order> bucket = ordersByStatus.get(order.getStatus());
+        Map<Order, Integer> positions = positionsByStatus.get(order.getStatus());
+        Integer index = positions.remove(order);
+        if (index == null) {
+            return;
+        }
+
+        for (int i = index + 1; i < bucket.size(); i++) {
+            positions.put(bucket.get(i), i - 1);
+        }
+        bucket.remove((int) index);
+    }
+
+    private void replaceOrder(Order target, Order editedOrder) {
+        if (target.getStatus() != editedOrder.getStatus()) {
+            removeOrder(target);
+            addOrder(editedOrder);
+            return;
+        }
+
+        Map<Order, Integer> positions = positionsByStatus.get(target.getStatus());
+        Integer index = positions.remove(target);
+        if (index == null) {
+            addOrder(editedOrder);
+        } else {
+            positions.put(editedOrder, index);
+            ordersByStatus.get(target.getStatus()).set(index, editedOrder);
+        }
+    }
+
+    /**
+     * Applies the same changes as {@link #replaceOrder} for the first {@code replacedCount} orders of
+     * {@code removed} and {@code added}, {@link #removeOrder} for the rest of {@code removed} and
+     * {@link #addOrder} for the rest of {@code added}, but in a single pass over the status lists,
+     * publishing at most one change for each of them.
+     */
+    private void rebuildOrders(List<? extends Order> removed, List<? extends Order> added, int replacedCount) {
+        Map<Order, Order> replacementsInPlace = new IdentityHashMap<>();
+        Set<Order> removedOrders = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Order> appendedOrders = new ArrayList<>();
+        for (int i = 0; i < replacedCount; i++) {
+            Order target = removed.get(i);
+            Order editedOrder = added.get(i);
+            if (target.getStatus() == editedOrder.getStatus()
+                    && positionsByStatus.get(target.getStatus()).containsKey(target)) {
+                replacementsInPlace.put(target, editedOrder);
+            } else {
+                removedOrders.add(target);
+                appendedOrders.add(editedOrder);
+            }
+        }
+        removedOrders.addAll(removed.subList(replacedCount, removed.size()));
+        appendedOrders.addAll(added.subList(replacedCount, added.size()));
+
+        Map<OrderStatus, List<Order>> rebuiltOrdersByStatus = new EnumMap<>(OrderStatus.class);
+        for (Map.Entry<OrderStatus, ObservableList<Order>> entry : ordersByStatus.entrySet()) {
+            List<Order> rebuiltBucket = new ArrayList<>(entry.getValue().size());
+            for (Order order : entry.getValue()) {
+                Order editedOrder = replacementsInPlace.get(order);
+                if (editedOrder != null) {
+                    rebuiltBucket.add(editedOrder);
+                } else if (!removedOrders.contains(order)) {
+                    rebuiltBucket.add(order);
+                }
+            }
+            rebuiltOrdersByStatus.put(entry.getKey(), rebuiltBucket);
+        }
+        appendedOrders.forEach(order -> rebuiltOrdersByStatus.get(order.getStatus()).add(order));
+
+        for (Map.Entry<OrderStatus, List<Order>> entry : rebuiltOrdersByStatus.entrySet()) {
+            List<Order> rebuiltBucket = entry.getValue();
+            Map<Order, Integer> positions = positionsByStatus.get(entry.getKey());
+            positions.clear();
+            for (int i = 0; i < rebuiltBucket.size(); i++) {
+                positions.put(rebuiltBucket.get(i), i);
+            }
+            ObservableList<Order> bucket = ordersByStatus.get(entry.getKey());
+            if (!isSameOrders(bucket, rebuiltBucket)) {
+                bucket.setAll(rebuiltBucket);
+            }
+        }
+    }
+
+    private static boolean isSameOrders(List<Order> orders, List<Order> otherOrders) {
+        if (orders.size() != otherOrders.size()) {
+            return false;
+        }
+        for (int i = 0; i < orders.size(); i++) {
+            if (orders.get(i) != otherOrders.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -2,13 +2,16 @@ package powerbake.address.model.order;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import powerbake.address.commons.util.BatchedObservableList;
+import powerbake.address.commons.util.PersistentList;
 import powerbake.address.model.order.exceptions.DuplicateOrderException;
 import powerbake.address.model.order.exceptions.OrderNotFoundException;
 
@@ -18,19 +21,39 @@ import powerbake.address.model.order.exceptions.OrderNotFoundException;
  * orders uses Order#equals(Object) for equality so as to ensure that the order being added or updated is
  * unique in terms of identity in the UniqueOrderList.
  *
+ * The position of every order is indexed by its {@code OrderId}, so that membership checks, lookups and updates
+ * do not need to scan the list. Membership checks take constant time. Removing an order does not renumber the
+ * orders after it, but marks their positions as stale; the next lookup of a stale position reindexes the whole
+ * list once, in {@code O(n)} time. Lookups of orders before every removed position, and so removals made from
+ * the back of the list to the front, take {@code O(log n)} time.
+ *
+ * Changes can be grouped into a batch, which is published to the listeners of the list as a single change.
+ *
  * Supports a minimal set of list operations.
  */
 public class UniqueOrderList implements Iterable<Order> {
-    private final ObservableList<Order> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Order> internalList = new BatchedObservableList<>();
     private final ObservableList<Order> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<OrderId, Integer> positions = new HashMap<>();
+    /** Positions from this one onwards may be out of date. */
+    private int firstStalePosition = Integer.MAX_VALUE;
 
     /**
      * Returns true if the list contains an equivalent order as the given argument.
      */
     public boolean contains(Order toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return positions.containsKey(toCheck.getOrderId());
+    }
+
+    /**
+     * Returns the order in the list with the given {@code orderId}, if any.
+     */
+    public Optional<Order> getById(OrderId orderId) {
+        requireNonNull(orderId);
+        Integer position = getPosition(orderId);
+        return position == null ? Optional.empty() : Optional.of(internalList.get(position));
     }
 
     /**
@@ -42,6 +65,7 @@ public class UniqueOrderList implements Iterable<Order> {
         if (contains(toAdd)) {
             throw new DuplicateOrderException();
         }
+        positions.put(toAdd.getOrderId(), internalList.size());
         internalList.add(toAdd);
     }
 
@@ -53,8 +77,8 @@ public class UniqueOrderList implements Iterable<Order> {
     public void setOrder(Order target, Order editedOrder) {
         requireNonNull(editedOrder);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Integer index = getPosition(target.getOrderId());
+        if (index == null) {
             throw new OrderNotFoundException();
         }
 
@@ -62,6 +86,8 @@ public class UniqueOrderList implements Iterable<Order> {
             throw new DuplicateOrderException();
         }
 
+        positions.remove(target.getOrderId());
+        positions.put(editedOrder.getOrderId(), index);
         internalList.set(index, editedOrder);
     }
 
@@ -71,9 +97,14 @@ public class UniqueOrderList implements Iterable<Order> {
      */
     public void remove(Order toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Integer index = getPosition(toRemove.getOrderId());
+        if (index == null) {
             throw new OrderNotFoundException();
         }
+
+        positions.remove(toRemove.getOrderId());
+        internalList.remove((int) index);
+        firstStalePosition = Math.min(firstStalePosition, index);
     }
 
     /**
@@ -81,6 +112,9 @@ public class UniqueOrderList implements Iterable<Order> {
      */
     public void setOrders(UniqueOrderList replacement) {
         requireNonNull(replacement);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        firstStalePosition = replacement.firstStalePosition;
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,13 +124,41 @@ public class UniqueOrderList implements Iterable<Order> {
      */
     public void setOrders(List<Order> orders) {
         requireNonNull(orders);
-        if (!ordersAreUnique(orders)) {
+        Map<OrderId, Integer> replacementPositions = indexPositions(orders);
+        if (replacementPositions.size() != orders.size()) {
             throw new DuplicateOrderException();
         }
 
+        positions.clear();
+        positions.putAll(replacementPositions);
+        firstStalePosition = Integer.MAX_VALUE;
         internalList.setAll(orders);
     }
 
+    /**
+     * Starts a batch of changes to this list, which are published to the listeners of the list as a single change
+     * when the batch is committed.
+     * @see BatchedObservableList#beginBatch()
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Publishes the changes made to this list in the current batch as a single change.
+     */
+    public void commitBatch() {
+        internalList.commitBatch();
+    }
+
+    /**
+     * Undoes the changes made to this list in the current batch.
+     */
+    public void rollbackBatch() {
+        internalList.rollbackBatch();
+        reindexPositions();
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -104,9 +166,16 @@ public class UniqueOrderList implements Iterable<Order> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the current contents of this list as an immutable {@code PersistentList}, in constant time.
+     */
+    public PersistentList<Order> asPersistentList() {
+        return internalList.asPersistentList();
+    }
+
     @Override
     public Iterator<Order> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -134,22 +203,34 @@ public class UniqueOrderList implements Iterable<Order> {
     }
 
     /**
-     * Returns true if {@code orders} contains only unique orders.
+     * Returns the position of the order with the given {@code orderId}, or null if there is no such order.
+     * Stale positions are reindexed first.
      */
-    private boolean ordersAreUnique(List<Order> orders) {
-        Set<Order> seen = new HashSet<Order>();
-
-        return orders.stream().<Boolean>reduce(
-                true, (prev, curr) -> {
-                    if (seen.contains(curr)) {
-                        return false;
-                    } else {
-                        seen.add(curr);
-                        return true;
-                    }
-                }, (a, b) -> {
-                    return a && b;
-                }
-                );
+    private Integer getPosition(OrderId orderId) {
+        Integer position = positions.get(orderId);
+        if (position != null && position >= firstStalePosition) {
+            reindexPositions();
+            position = positions.get(orderId);
+        }
+        return position;
+    }
+
+    private void reindexPositions() {
+        positions.clear();
+        positions.putAll(indexPositions(internalList));
+        firstStalePosition = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the position of each order in {@code orders}, keyed by its {@code OrderId}.
+     * Duplicate orders share a single entry.
+     */
+    private static Map<OrderId, Integer> indexPositions(List<Order> orders) {
+        Map<OrderId, Integer> orderPositions = new HashMap<>();
+        int position = 0;
+        for (Order order : orders) {
+            orderPositions.put(order.getOrderId(), position++);
+        }
+        return orderPositions;
     }
 }
@@ -5,14 +5,22 @@ import static powerbake.address.commons.util.AppUtil.checkArgument;
 
 /**
  * Represents a Pastry's price in the address book.
+ * The price is held as a whole number of cents, so that arithmetic on prices is exact.
  * Guarantees: immutable; is valid as declared in {@link #isValidPrice(String)}
  */
 public class Price {
+    /**
+     * The number of digits allowed before the decimal point, which keeps any price times an order quantity,
+     * and the sales totals built from them, far inside a {@code long} of cents.
+     */
+    public static final int MAX_INTEGER_DIGITS = 9;
     public static final String MESSAGE_CONSTRAINTS =
-        "Prices should only contain digits and up to 2 decimal points, such as 3, 12.5 or 0.99"
-                + "\nPrices must be positive and less than 1000 in value.";
-    public static final String VALIDATION_REGEX = "^\\d+(.\\d{1,2})?$";
+        "Prices should only contain digits and up to 2 decimal points, such as 3, 12.5 or 0.99, "
+                + "with at most " + MAX_INTEGER_DIGITS + " digits before the decimal point."
+                + "\nPrices entered in commands must be positive and less than 1000 in value.";
+    public static final String VALIDATION_REGEX = "^\\d{1," + MAX_INTEGER_DIGITS + "}(\\.\\d{1,2})?$";
     public final String amount;
+    private final long cents;
 
     /**
      * Constructs a {@code Price}.
@@ -22,7 +30,42 @@ public class Price {
     public Price(String amount) {
         requireNonNull(amount);
         checkArgument(isValidPrice(amount), MESSAGE_CONSTRAINTS);
-        this.amount = String.format("%.2f", Double.valueOf(amount));
+        this.cents = parseCents(amount);
+        this.amount = formatCents(cents);
+    }
+
+    private Price(long cents) {
+        this.cents = cents;
+        this.amount = formatCents(cents);
+    }
+
+    /**
+     * Returns a {@code Price} of {@code cents} cents.
+     *
+     * @throws IllegalArgumentException if {@code cents} is negative.
+     */
+    public static Price fromCents(long cents) {
+        checkArgument(cents >= 0, MESSAGE_CONSTRAINTS);
+        return new Price(cents);
+    }
+
+    /**
+     * Returns {@code cents} formatted as an amount with 2 decimal places, such as 12.50.
+     */
+    public static String formatCents(long cents) {
+        assert cents >= 0;
+        long fraction = cents % 100;
+        return (cents / 100) + (fraction < 10 ? ".0" : ".") + fraction;
+    }
+
+    private static long parseCents(String amount) {
+        int point = amount.indexOf('.');
+        if (point < 0) {
+            return Long.parseLong(amount) * 100;
+        }
+        String fraction = amount.substring(point + 1);
+        long fractionCents = Long.parseLong(fraction) * (fraction.length() == 1 ? 10 : 1);
+        return Long.parseLong(amount.substring(0, point)) * 100 + fractionCents;
     }
 
     /**
@@ -32,11 +75,18 @@ public class Price {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the value of the price in cents.
+     */
+    public long getCents() {
+        return cents;
+    }
+
     /**
      * Returns the value of the price as a double.
      */
     public double getValueOfAmount() {
-        return Double.valueOf(amount);
+        return cents / 100.0;
     }
 
     @Override
@@ -51,11 +101,11 @@ public class Price {
         }
 
         Price otherPrice = (Price) other;
-        return this.amount.equals(otherPrice.amount);
+        return cents == otherPrice.cents;
     }
 
     @Override
     public int hashCode() {
-        return amount.hashCode();
+        return Long.hashCode(cents);
     }
 }
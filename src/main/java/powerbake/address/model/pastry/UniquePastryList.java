@@ -3,11 +3,16 @@ package powerbake.address.model.pastry;
 import static java.util.Objects.requireNonNull;
 import static powerbake.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import powerbake.address.commons.util.BatchedObservableList;
+import powerbake.address.commons.util.PersistentList;
 import powerbake.address.model.pastry.exceptions.DuplicatePastryException;
 import powerbake.address.model.pastry.exceptions.PastryNotFoundException;
 
@@ -18,22 +23,37 @@ import powerbake.address.model.pastry.exceptions.PastryNotFoundException;
  * unique in terms of identity in the UniquePastryList. However, the removal of a pastry uses Pastry#equals(Object) so
  * as to ensure that the pastry with exactly the same fields will be removed.
  *
+ * The position of every pastry is indexed by its case-folded name, which is what identifies a pastry,
+ * so that identity checks and lookups by name do not need to scan the list.
+ *
+ * Changes can be grouped into a batch, which is published to the listeners of the list as a single change.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Pastry#isSamePastry(Pastry)
  */
 public class UniquePastryList implements Iterable<Pastry> {
 
-    private final ObservableList<Pastry> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Pastry> internalList = new BatchedObservableList<>();
     private final ObservableList<Pastry> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, Integer> positions = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent pastry as the given argument.
      */
     public boolean contains(Pastry toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePastry);
+        return positions.containsKey(getKey(toCheck));
+    }
+
+    /**
+     * Returns the pastry in the list whose name matches {@code name}, ignoring case, if any.
+     */
+    public Optional<Pastry> getByName(String name) {
+        requireNonNull(name);
+        Integer position = positions.get(foldCase(name));
+        return position == null ? Optional.empty() : Optional.of(internalList.get(position));
     }
 
     /**
@@ -45,6 +65,7 @@ public class UniquePastryList implements Iterable<Pastry> {
         if (contains(toAdd)) {
             throw new DuplicatePastryException();
         }
+        positions.put(getKey(toAdd), internalList.size());
         internalList.add(toAdd);
     }
 
@@ -56,7 +77,7 @@ public class UniquePastryList implements Iterable<Pastry> {
     public void setPastry(Pastry target, Pastry editedPastry) {
         requireAllNonNull(target, editedPastry);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PastryNotFoundException();
         }
@@ -65,6 +86,8 @@ public class UniquePastryList implements Iterable<Pastry> {
             throw new DuplicatePastryException();
         }
 
+        positions.remove(getKey(target));
+        positions.put(getKey(editedPastry), index);
         internalList.set(index, editedPastry);
     }
 
@@ -74,13 +97,22 @@ public class UniquePastryList implements Iterable<Pastry> {
      */
     public void remove(Pastry toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PastryNotFoundException();
         }
+
+        positions.remove(getKey(toRemove));
+        for (int i = index + 1; i < internalList.size(); i++) {
+            positions.put(getKey(internalList.get(i)), i - 1);
+        }
+        internalList.remove(index);
     }
 
     public void setPastries(UniquePastryList replacement) {
         requireNonNull(replacement);
+        positions.clear();
+        positions.putAll(replacement.positions);
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,13 +122,41 @@ public class UniquePastryList implements Iterable<Pastry> {
      */
     public void setPastries(List<Pastry> pastries) {
         requireAllNonNull(pastries);
-        if (!pastriesAreUnique(pastries)) {
+        Map<String, Integer> replacementPositions = indexPositions(pastries);
+        if (replacementPositions.size() != pastries.size()) {
             throw new DuplicatePastryException();
         }
 
+        positions.clear();
+        positions.putAll(replacementPositions);
         internalList.setAll(pastries);
     }
 
+    /**
+     * Starts a batch of changes to this list, which are published to the listeners of the list as a single change
+     * when the batch is committed.
+     * @see BatchedObservableList#beginBatch()
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Publishes the changes made to this list in the current batch as a single change.
+     */
+    public void commitBatch() {
+        internalList.commitBatch();
+    }
+
+    /**
+     * Undoes the changes made to this list in the current batch.
+     */
+    public void rollbackBatch() {
+        internalList.rollbackBatch();
+        positions.clear();
+        positions.putAll(indexPositions(internalList));
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -104,9 +164,16 @@ public class UniquePastryList implements Iterable<Pastry> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the current contents of this list as an immutable {@code PersistentList}, in constant time.
+     */
+    public PersistentList<Pastry> asPersistentList() {
+        return internalList.asPersistentList();
+    }
+
     @Override
     public Iterator<Pastry> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -135,16 +202,41 @@ public class UniquePastryList implements Iterable<Pastry> {
     }
 
     /**
-     * Returns true if {@code pastries} contains only unique pastries.
+     * Returns the position of the pastry equal to {@code pastry}, or -1 if there is no such pastry.
+     */
+    private int indexOf(Pastry pastry) {
+        Integer position = positions.get(getKey(pastry));
+        if (position == null || !internalList.get(position).equals(pastry)) {
+            return -1;
+        }
+        return position;
+    }
+
+    /**
+     * Returns the position of each pastry in {@code pastries}, keyed by its case-folded name.
+     * Pastries with the same identity share a single entry.
+     */
+    private static Map<String, Integer> indexPositions(List<Pastry> pastries) {
+        Map<String, Integer> pastryPositions = new HashMap<>();
+        for (int i = 0; i < pastries.size(); i++) {
+            pastryPositions.put(getKey(pastries.get(i)), i);
+        }
+        return pastryPositions;
+    }
+
+    private static String getKey(Pastry pastry) {
+        return foldCase(pastry.getName().toString());
+    }
+
+    /**
+     * Returns {@code name} with every character folded the same way as {@link String#equalsIgnoreCase(String)},
+     * so that two names are equal ignoring case exactly when their folded forms are equal.
      */
-    private boolean pastriesAreUnique(List<Pastry> pastries) {
-        for (int i = 0; i < pastries.size() - 1; i++) {
-            for (int j = i + 1; j < pastries.size(); j++) {
-                if (pastries.get(i).isSamePastry(pastries.get(j))) {
-                    return false;
-                }
-            }
+    private static String foldCase(String name) {
+        StringBuilder folded = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            folded.append(Character.toLowerCase(Character.toUpperCase(name.charAt(i))));
         }
-        return true;
+        return folded.toString();
     }
 }
@@ -11,15 +11,20 @@ import powerbake.address.commons.util.ToStringBuilder;
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final StringUtil.KeywordMatcher matcher;
 
+    /**
+     * Creates a predicate that matches any of {@code keywords}.
+     * Each keyword cannot be empty and must be a single word.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = StringUtil.compileKeywords(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        return matcher.matchesAny(person.getName().fullName);
     }
 
     @Override
@@ -3,11 +3,16 @@ package powerbake.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static powerbake.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import powerbake.address.commons.util.BatchedObservableList;
+import powerbake.address.commons.util.PersistentList;
 import powerbake.address.model.person.exceptions.DuplicatePersonException;
 import powerbake.address.model.person.exceptions.PersonNotFoundException;
 
@@ -18,22 +23,42 @@ import powerbake.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * The position of every person is indexed by their {@code Phone}, which is what identifies a person,
+ * so that identity checks and lookups do not need to scan the list. Identity checks take constant time.
+ * Removing a person does not renumber the persons after them, but marks their positions as stale; the next lookup
+ * of a stale position reindexes the whole list once, in {@code O(n)} time. Lookups of persons before every removed
+ * position, and so removals made from the back of the list to the front, take {@code O(log n)} time.
+ *
+ * Changes can be grouped into a batch, which is published to the listeners of the list as a single change.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Person> internalList = new BatchedObservableList<>();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Phone, Integer> positions = new HashMap<>();
+    /** Positions from this one onwards may be out of date. */
+    private int firstStalePosition = Integer.MAX_VALUE;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positions.containsKey(toCheck.getPhone());
+    }
+
+    /**
+     * Returns the person in the list with the given {@code phone}, if any.
+     */
+    public Optional<Person> getByPhone(Phone phone) {
+        requireNonNull(phone);
+        Integer position = getPosition(phone);
+        return position == null ? Optional.empty() : Optional.of(internalList.get(position));
     }
 
     /**
@@ -45,6 +70,7 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        positions.put(toAdd.getPhone(), internalList.size());
         internalList.add(toAdd);
     }
 
@@ -56,7 +82,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,6 +91,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        positions.remove(target.getPhone());
+        positions.put(editedPerson.getPhone(), index);
         internalList.set(index, editedPerson);
     }
 
@@ -74,13 +102,21 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        positions.remove(toRemove.getPhone());
+        internalList.remove(index);
+        firstStalePosition = Math.min(firstStalePosition, index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        firstStalePosition = replacement.firstStalePosition;
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,13 +126,41 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<Phone, Integer> replacementPositions = indexPositions(persons);
+        if (replacementPositions.size() != persons.size()) {
             throw new DuplicatePersonException();
         }
 
+        positions.clear();
+        positions.putAll(replacementPositions);
+        firstStalePosition = Integer.MAX_VALUE;
         internalList.setAll(persons);
     }
 
+    /**
+     * Starts a batch of changes to this list, which are published to the listeners of the list as a single change
+     * when the batch is committed.
+     * @see BatchedObservableList#beginBatch()
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Publishes the changes made to this list in the current batch as a single change.
+     */
+    public void commitBatch() {
+        internalList.commitBatch();
+    }
+
+    /**
+     * Undoes the changes made to this list in the current batch.
+     */
+    public void rollbackBatch() {
+        internalList.rollbackBatch();
+        reindexPositions();
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -104,9 +168,16 @@ public class UniquePersonList implements Iterable<Person> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the current contents of this list as an immutable {@code PersistentList}, in constant time.
+     */
+    public PersistentList<Person> asPersistentList() {
+        return internalList.asPersistentList();
+    }
+
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -135,16 +206,45 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of the person equal to {@code person}, or -1 if there is no such person.
+     */
+    private int indexOf(Person person) {
+        Integer position = getPosition(person.getPhone());
+        if (position == null || !internalList.get(position).equals(person)) {
+            return -1;
+        }
+        return position;
+    }
+
+    /**
+     * Returns the position of the person with the given {@code phone}, or null if there is no such person.
+     * Stale positions are reindexed first.
+     */
+    private Integer getPosition(Phone phone) {
+        Integer position = positions.get(phone);
+        if (position != null && position >= firstStalePosition) {
+            reindexPositions();
+            position = positions.get(phone);
+        }
+        return position;
+    }
+
+    private void reindexPositions() {
+        positions.clear();
+        positions.putAll(indexPositions(internalList));
+        firstStalePosition = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the position of each person in {@code persons}, keyed by their {@code Phone}.
+     * Persons with the same identity share a single entry.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
+    private static Map<Phone, Integer> indexPositions(List<Person> persons) {
+        Map<Phone, Integer> personPositions = new HashMap<>();
+        int position = 0;
+        for (Person person : persons) {
+            personPositions.put(person.getPhone(), position++);
         }
-        return true;
+        return personPositions;
     }
 }
@@ -0,0 +1,119 @@
+package powerbake.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import powerbake.address.commons.core.LogsCenter;
+import powerbake.address.commons.exceptions.DataLoadingException;
+import powerbake.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book data between the file formats of different {@code AddressBookStorage}s.
+ */
+public class AddressBookFormatConverter {
+
+    public static final String MIGRATED_FILE_SUFFIX = ".migrated";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookFormatConverter.class);
+
+    /**
+     * Reads the address book from {@code source} and saves it to {@code target}.
+     * Returns false without saving anything if {@code source} has no data.
+     *
+     * @throws DataLoadingException if the data of {@code source} could not be loaded.
+     * @throws IOException if the data could not be saved to {@code target}.
+     */
+    public static boolean convert(AddressBookStorage source, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (addressBook.isEmpty()) {
+            return false;
+        }
+        target.saveAddressBook(addressBook.get());
+        logger.info("Converted data file " + source.getAddressBookFilePath() + " to "
+                + target.getAddressBookFilePath());
+        return true;
+    }
+
+    /**
+     * Converts the JSON data file at {@code jsonFilePath} into a binary data file at {@code binaryFilePath}.
+     *
+     * @see #convert(AddressBookStorage, AddressBookStorage)
+     */
+    public static boolean jsonToBinary(Path jsonFilePath, Path binaryFilePath)
+            throws DataLoadingException, IOException {
+        return convert(new JsonAddressBookStorage(jsonFilePath), new BinaryAddressBookStorage(binaryFilePath));
+    }
+
+    /**
+     * Converts the binary data file at {@code binaryFilePath} into a JSON data file at {@code jsonFilePath}.
+     *
+     * @see #convert(AddressBookStorage, AddressBookStorage)
+     */
+    public static boolean binaryToJson(Path binaryFilePath, Path jsonFilePath)
+            throws DataLoadingException, IOException {
+        return convert(new BinaryAddressBookStorage(binaryFilePath), new JsonAddressBookStorage(jsonFilePath));
+    }
+
+    /**
+     * Moves the data of {@code source} over to {@code target} when the data file in use changes format.
+     * The data of {@code source}, including any journal kept alongside it, is converted only if it was modified
+     * after the data of {@code target}. The data file and journal of {@code source} are then renamed with
+     * {@link #MIGRATED_FILE_SUFFIX}, so that switching formats again later does not bring back stale data.
+     * Returns false if {@code source} has no data file or no conversion was needed.
+     *
+     * @throws DataLoadingException if the data of {@code source} could not be loaded.
+     * @throws IOException if the data could not be saved to {@code target} or {@code source} could not be retired.
+     */
+    public static boolean migrate(AddressBookStorage source, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        Path sourceFilePath = source.getAddressBookFilePath();
+        if (!Files.exists(sourceFilePath)) {
+            return false;
+        }
+
+        boolean isConverted = false;
+        if (getLastModifiedTime(sourceFilePath).compareTo(getLastModifiedTime(target.getAddressBookFilePath())) > 0) {
+            isConverted = convert(new JournaledAddressBookStorage(source), new JournaledAddressBookStorage(target));
+        }
+        retire(sourceFilePath);
+        retire(JournaledAddressBookStorage.getJournalFilePath(sourceFilePath));
+        return isConverted;
+    }
+
+    /**
+     * Returns the latest modification time of the data file at {@code filePath} and its journal,
+     * or the earliest possible time if neither exists.
+     */
+    private static FileTime getLastModifiedTime(Path filePath) throws IOException {
+        FileTime lastModifiedTime = FileTime.fromMillis(Long.MIN_VALUE);
+        for (Path path : new Path[] {filePath, JournaledAddressBookStorage.getJournalFilePath(filePath)}) {
+            if (Files.exists(path) && Files.getLastModifiedTime(path).compareTo(lastModifiedTime) > 0) {
+                lastModifiedTime = Files.getLastModifiedTime(path);
+            }
+        }
+        return lastModifiedTime;
+    }
+
+    private static void retire(Path filePath) throws IOException {
+        if (!Files.exists(filePath)) {
+            return;
+        }
+        Path retiredFilePath = filePath.resolveSibling(filePath.getFileName() + MIGRATED_FILE_SUFFIX);
+        Files.move(filePath, retiredFilePath, StandardCopyOption.REPLACE_EXISTING);
+        logger.info("Retired data file " + filePath + " to " + retiredFilePath);
+    }
+}
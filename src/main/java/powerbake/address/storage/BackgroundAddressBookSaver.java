@@ -0,0 +1,202 @@
+package powerbake.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import powerbake.address.commons.core.LogsCenter;
+import powerbake.address.commons.exceptions.DataLoadingException;
+import powerbake.address.commons.util.StringUtil;
+import powerbake.address.model.AddressBookSnapshot;
+import powerbake.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that writes the address book to its data file on a dedicated background thread,
+ * so that saving does not hold up the caller.
+ * Each save takes an {@link AddressBookSnapshot} of the address book, in constant time for an {@code AddressBook},
+ * and hands it to the background thread.
+ * Saves that arrive while an earlier snapshot is still waiting to be written replace that snapshot,
+ * so a burst of saves results in a single write of the latest data.
+ * Saves of an address book that has not been modified since it was last written are skipped without taking
+ * a snapshot.
+ * A failed write is passed to the failure handler, if one is set, as soon as it happens, so that it can be
+ * reported against the save that caused it. Otherwise it is thrown by the next call to {@link #flush()}.
+ */
+public class BackgroundAddressBookSaver implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundAddressBookSaver.class);
+
+    private final AddressBookStorage delegate;
+    private final ExecutorService executor;
+    private final AtomicReference<PendingSave> pendingSave = new AtomicReference<>();
+    private final AtomicReference<IOException> failure = new AtomicReference<>();
+    private final SavedVersion savedVersion = new SavedVersion();
+    private volatile Consumer<IOException> failureHandler;
+
+    /**
+     * Creates a {@code BackgroundAddressBookSaver} that writes through {@code delegate}.
+     */
+    public BackgroundAddressBookSaver(AddressBookStorage delegate) {
+        requireNonNull(delegate);
+        this.delegate = delegate;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets {@code failureHandler} to be called on the background thread with the exception of each failed write.
+     * Failures passed to the handler are not thrown by {@link #flush()}.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return delegate.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Any pending snapshot is written first, so that the data read is never older than the last save.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        try {
+            flush();
+        } catch (IOException ioe) {
+            logger.warning("Error saving address book before reading it: " + ioe);
+        }
+        return delegate.readAddressBook(filePath);
+    }
+
+    /**
+     * Schedules {@code addressBook} to be written to the data file on the background thread,
+     * unless it has not been modified since it was last written.
+     * A failure of the background write is reported as described in the class documentation, not thrown here.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to any location other than the data file of this storage is done immediately, after any pending
+     * snapshot has been written.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            flush();
+            delegate.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        if (pendingSave.get() == null && savedVersion.isUnchanged(addressBook, filePath)) {
+            return;
+        }
+
+        if (pendingSave.getAndSet(new PendingSave(addressBook, AddressBookSnapshot.of(addressBook))) == null) {
+            executor.execute(this::writePendingSnapshot);
+        }
+    }
+
+    /**
+     * Blocks until every snapshot scheduled so far has been written.
+     *
+     * @throws IOException if a background write failed since the last failure was reported.
+     */
+    public void flush() throws IOException {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the address book to be saved");
+        } catch (ExecutionException ee) {
+            throw new AssertionError("Flushing should not fail.", ee);
+        }
+        throwFailure();
+    }
+
+    /**
+     * Writes any pending snapshot and stops the background thread.
+     * No further saves can be made to the data file of this storage afterwards.
+     *
+     * @throws IOException if a background write failed since the last failure was reported.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void writePendingSnapshot() {
+        PendingSave save = pendingSave.getAndSet(null);
+        if (save == null) {
+            return;
+        }
+
+        try {
+            delegate.saveAddressBook(save.snapshot);
+            savedVersion.record(save.addressBook, save.snapshot, getAddressBookFilePath());
+            failure.set(null);
+        } catch (IOException ioe) {
+            logger.warning("Failed to save address book in the background " + StringUtil.getDetails(ioe));
+            Consumer<IOException> handler = failureHandler;
+            if (handler == null) {
+                failure.set(ioe);
+            } else {
+                failure.set(null);
+                handler.accept(ioe);
+            }
+        }
+    }
+
+    private void throwFailure() throws IOException {
+        IOException ioe = failure.getAndSet(null);
+        if (ioe != null) {
+            throw ioe;
+        }
+    }
+
+    /**
+     * A snapshot waiting to be written, together with the address book it was taken of.
+     */
+    private static class PendingSave {
+        private final ReadOnlyAddressBook addressBook;
+        private final AddressBookSnapshot snapshot;
+
+        PendingSave(ReadOnlyAddressBook addressBook, AddressBookSnapshot snapshot) {
+            this.addressBook = addressBook;
+            this.snapshot = snapshot;
+        }
+    }
+
+}
@@ -0,0 +1,339 @@
+package powerbake.address.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import powerbake.address.commons.exceptions.IllegalValueException;
+import powerbake.address.model.AddressBook;
+import powerbake.address.model.ReadOnlyAddressBook;
+import powerbake.address.model.order.Order;
+import powerbake.address.model.order.OrderId;
+import powerbake.address.model.order.OrderItem;
+import powerbake.address.model.order.OrderStatus;
+import powerbake.address.model.pastry.Pastry;
+import powerbake.address.model.pastry.Price;
+import powerbake.address.model.person.Address;
+import powerbake.address.model.person.Email;
+import powerbake.address.model.person.Name;
+import powerbake.address.model.person.Person;
+import powerbake.address.model.person.Phone;
+import powerbake.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ * <p>
+ * The file starts with {@link #MAGIC_NUMBER} and {@link #FORMAT_VERSION}, followed by a dictionary of all the
+ * distinct strings in the address book, then the persons, pastries and orders. Every string, list and dictionary
+ * is prefixed by its length. Strings in records are stored as indexes into the dictionary, order IDs as the
+ * two halves of their UUID, order dates as epoch seconds and nanoseconds in UTC, and prices as integer cents.
+ * The customer of an order is stored as the index of the matching client, or in full if there is none.
+ * Any change to the layout must increment {@link #FORMAT_VERSION}.
+ */
+public class BinaryAddressBookStorage extends FileAddressBookStorage {
+
+    public static final int MAGIC_NUMBER = 0x50424B42; // "PBKB"
+    public static final int FORMAT_VERSION = 1;
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+
+    public static final String MESSAGE_NOT_A_BINARY_FILE = "Data file is not a binary address book";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary data file version %d is not supported";
+    public static final String MESSAGE_CORRUPT_FILE = "Binary data file is corrupt";
+
+    private static final int NO_CLIENT = -1;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        super(filePath);
+    }
+
+    /**
+     * Returns the location of a binary data file next to the data file at {@code filePath},
+     * with the same name but the {@link #BINARY_FILE_EXTENSION} extension.
+     */
+    public static Path getBinaryFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + BINARY_FILE_EXTENSION);
+    }
+
+    @Override
+    protected ReadOnlyAddressBook readFile(Path filePath) throws IOException, IllegalValueException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            if (in.readInt() != MAGIC_NUMBER) {
+                throw new IOException(MESSAGE_NOT_A_BINARY_FILE);
+            }
+            int version = in.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            return new Reader(in, Files.size(filePath)).read();
+        } catch (DateTimeException dte) {
+            throw new IOException(MESSAGE_CORRUPT_FILE, dte);
+        } catch (IllegalArgumentException iae) {
+            // thrown by the model's constructors when a value does not meet its constraints
+            throw new IllegalValueException(iae.getMessage());
+        }
+    }
+
+    @Override
+    protected void writeFile(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+                DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(Channels.newOutputStream(channel)))) {
+            out.writeInt(MAGIC_NUMBER);
+            out.writeInt(FORMAT_VERSION);
+            new Writer(addressBook, out).write();
+            out.flush();
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Writes the contents of an address book after the file header.
+     */
+    private static class Writer {
+        private final ReadOnlyAddressBook addressBook;
+        private final DataOutputStream out;
+        private final Map<String, Integer> dictionary = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+        private final Map<Phone, Integer> clientIndexes = new HashMap<>();
+
+        Writer(ReadOnlyAddressBook addressBook, DataOutputStream out) {
+            this.addressBook = addressBook;
+            this.out = out;
+        }
+
+        void write() throws IOException {
+            buildDictionary();
+            out.writeInt(strings.size());
+            for (String string : strings) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+
+            List<Person> persons = addressBook.getPersonList();
+            out.writeInt(persons.size());
+            for (int i = 0; i < persons.size(); i++) {
+                writePerson(persons.get(i));
+                clientIndexes.put(persons.get(i).getPhone(), i);
+            }
+
+            out.writeInt(addressBook.getPastryList().size());
+            for (Pastry pastry : addressBook.getPastryList()) {
+                writePastry(pastry);
+            }
+
+            out.writeInt(addressBook.getOrderList().size());
+            for (Order order : addressBook.getOrderList()) {
+                writeOrder(order, persons);
+            }
+        }
+
+        private void buildDictionary() {
+            addressBook.getPersonList().forEach(this::addStrings);
+            addressBook.getPastryList().forEach(pastry -> addString(pastry.getName().name));
+            for (Order order : addressBook.getOrderList()) {
+                addStrings(order.getCustomer());
+                order.getOrderItems().forEach(item -> addString(item.getPastry().getName().name));
+            }
+        }
+
+        private void addStrings(Person person) {
+            addString(person.getName().fullName);
+            addString(person.getPhone().value);
+            addString(person.getEmail().value);
+            addString(person.getAddress().value);
+            person.getTags().forEach(tag -> addString(tag.tagName));
+        }
+
+        private void addString(String string) {
+            if (!dictionary.containsKey(string)) {
+                dictionary.put(string, strings.size());
+                strings.add(string);
+            }
+        }
+
+        private void writePerson(Person person) throws IOException {
+            out.writeInt(dictionary.get(person.getName().fullName));
+            out.writeInt(dictionary.get(person.getPhone().value));
+            out.writeInt(dictionary.get(person.getEmail().value));
+            out.writeInt(dictionary.get(person.getAddress().value));
+            out.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                out.writeInt(dictionary.get(tag.tagName));
+            }
+        }
+
+        private void writePastry(Pastry pastry) throws IOException {
+            out.writeInt(dictionary.get(pastry.getName().name));
+            out.writeLong(pastry.getPrice().getCents());
+        }
+
+        private void writeOrder(Order order, List<Person> persons) throws IOException {
+            out.writeLong(order.getOrderId().getMostSignificantBits());
+            out.writeLong(order.getOrderId().getLeastSignificantBits());
+
+            Person customer = order.getCustomer();
+            Integer clientIndex = clientIndexes.get(customer.getPhone());
+            if (clientIndex != null && persons.get(clientIndex).equals(customer)) {
+                out.writeInt(clientIndex);
+            } else {
+                out.writeInt(NO_CLIENT);
+                writePerson(customer);
+            }
+
+            out.writeLong(order.getOrderDate().toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(order.getOrderDate().getNano());
+            out.writeByte(order.getStatus().ordinal());
+
+            out.writeInt(order.getOrderItems().size());
+            for (OrderItem item : order.getOrderItems()) {
+                writePastry(item.getPastry());
+                out.writeInt(item.getQuantity());
+            }
+        }
+    }
+
+    /**
+     * Reads the contents of an address book after the file header.
+     */
+    private static class Reader {
+        private final DataInputStream in;
+        private final long fileSize;
+        private final AddressBook addressBook = new AddressBook();
+        private String[] strings;
+
+        Reader(DataInputStream in, long fileSize) {
+            this.in = in;
+            this.fileSize = fileSize;
+        }
+
+        AddressBook read() throws IOException, IllegalValueException {
+            strings = new String[readCount()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[readCount()];
+                in.readFully(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            int personCount = readCount();
+            List<Person> persons = new ArrayList<>(personCount);
+            for (int i = 0; i < personCount; i++) {
+                Person person = readPerson();
+                if (addressBook.hasPerson(person)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                addressBook.addPerson(person);
+                persons.add(person);
+            }
+
+            int pastryCount = readCount();
+            for (int i = 0; i < pastryCount; i++) {
+                Pastry pastry = readPastry();
+                if (addressBook.hasPastry(pastry)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PASTRY);
+                }
+                addressBook.addPastry(pastry);
+            }
+
+            int orderCount = readCount();
+            for (int i = 0; i < orderCount; i++) {
+                Order order = readOrder(persons);
+                if (addressBook.hasOrder(order)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_ORDER);
+                }
+                addressBook.addOrder(order);
+            }
+            return addressBook;
+        }
+
+        private Person readPerson() throws IOException {
+            Name name = new Name(readString());
+            Phone phone = new Phone(readString());
+            Email email = new Email(readString());
+            Address address = new Address(readString());
+            int tagCount = readCount();
+            Set<Tag> tags = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(new Tag(readString()));
+            }
+            return new Person(name, phone, email, address, tags);
+        }
+
+        private Pastry readPastry() throws IOException {
+            powerbake.address.model.pastry.Name name = new powerbake.address.model.pastry.Name(readString());
+            long cents = in.readLong();
+            if (cents < 0) {
+                throw new IOException(MESSAGE_CORRUPT_FILE);
+            }
+            return new Pastry(name, Price.fromCents(cents));
+        }
+
+        private Order readOrder(List<Person> persons) throws IOException {
+            OrderId orderId = new OrderId(in.readLong(), in.readLong());
+
+            int clientIndex = in.readInt();
+            Person customer;
+            if (clientIndex == NO_CLIENT) {
+                customer = readPerson();
+            } else if (clientIndex >= 0 && clientIndex < persons.size()) {
+                customer = persons.get(clientIndex);
+            } else {
+                throw new IOException(MESSAGE_CORRUPT_FILE);
+            }
+
+            LocalDateTime orderDate = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+            int statusIndex = in.readUnsignedByte();
+            if (statusIndex >= OrderStatus.values().length) {
+                throw new IOException(MESSAGE_CORRUPT_FILE);
+            }
+            OrderStatus status = OrderStatus.values()[statusIndex];
+
+            int itemCount = readCount();
+            List<OrderItem> items = new ArrayList<>(itemCount);
+            for (int i = 0; i < itemCount; i++) {
+                items.add(new OrderItem(readPastry(), in.readInt()));
+            }
+            return new Order(orderId, customer, items, orderDate, status);
+        }
+
+        private String readString() throws IOException {
+            int index = in.readInt();
+            if (index < 0 || index >= strings.length) {
+                throw new IOException(MESSAGE_CORRUPT_FILE);
+            }
+            return strings[index];
+        }
+
+        /**
+         * Reads the length of a string or list, which cannot exceed the size of the file.
+         */
+        private int readCount() throws IOException {
+            int count = in.readInt();
+            if (count < 0 || count > fileSize) {
+                throw new IOException(MESSAGE_CORRUPT_FILE);
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package powerbake.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import powerbake.address.commons.core.LogsCenter;
+import powerbake.address.commons.exceptions.DataLoadingException;
+import powerbake.address.commons.exceptions.IllegalValueException;
+import powerbake.address.commons.util.FileUtil;
+import powerbake.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in a single file on the hard disk, in a format defined by subclasses.
+ * Saves are written to a temporary file that replaces the data file only once it is complete,
+ * and the previous data file is kept as a backup that is read if the data file is missing or cannot be loaded.
+ * Saving an address book that has not been modified since it was last saved to the same file is skipped.
+ */
+public abstract class FileAddressBookStorage implements AddressBookStorage {
+
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+
+    private static final Logger logger = LogsCenter.getLogger(FileAddressBookStorage.class);
+
+    private final SavedVersion savedVersion = new SavedVersion();
+    private Path filePath;
+
+    public FileAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the location of the backup of the data file at {@code filePath}.
+     */
+    public static Path getBackupFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The backup of the data file is read instead if the data file is missing or cannot be loaded.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path backupFilePath = getBackupFilePath(filePath);
+        if (!Files.exists(filePath)) {
+            if (!Files.exists(backupFilePath)) {
+                return Optional.empty();
+            }
+            logger.warning("Data file " + filePath + " is missing, reading its backup " + backupFilePath);
+            return Optional.of(readDataFile(backupFilePath));
+        }
+
+        try {
+            return Optional.of(readDataFile(filePath));
+        } catch (DataLoadingException dle) {
+            if (!Files.exists(backupFilePath)) {
+                throw dle;
+            }
+            logger.warning("Data file " + filePath + " could not be loaded, reading its backup " + backupFilePath);
+            try {
+                return Optional.of(readDataFile(backupFilePath));
+            } catch (DataLoadingException backupException) {
+                throw dle;
+            }
+        }
+    }
+
+    private ReadOnlyAddressBook readDataFile(Path filePath) throws DataLoadingException {
+        try {
+            return readFile(filePath);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from data file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The data is first written and forced to disk in a temporary file next to {@code filePath}.
+     * The existing data file then becomes the backup, and the temporary file is renamed to the data file.
+     * Nothing is written if {@code addressBook} has not been modified since it was last saved to {@code filePath}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (savedVersion.isUnchanged(addressBook, filePath)) {
+            logger.fine("Address book is unchanged since it was last saved to " + filePath);
+            return;
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            writeFile(addressBook, tempFilePath);
+        } catch (IOException ioe) {
+            Files.deleteIfExists(tempFilePath);
+            throw ioe;
+        }
+
+        if (Files.exists(filePath)) {
+            Files.move(filePath, getBackupFilePath(filePath), StandardCopyOption.REPLACE_EXISTING);
+        }
+        try {
+            Files.move(tempFilePath, filePath, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        savedVersion.record(addressBook, addressBook, filePath);
+    }
+
+    /**
+     * Returns the address book stored in the file at {@code filePath}, which exists.
+     *
+     * @throws IOException if the file could not be read or is not in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    protected abstract ReadOnlyAddressBook readFile(Path filePath) throws IOException, IllegalValueException;
+
+    /**
+     * Writes {@code addressBook} to the file at {@code filePath}, replacing its contents,
+     * and forces the file to disk.
+     *
+     * @throws IOException if there was an error during writing to the file.
+     */
+    protected abstract void writeFile(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
+
+}
@@ -0,0 +1,338 @@
+package powerbake.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import javafx.collections.ListChangeListener;
+import powerbake.address.commons.core.LogsCenter;
+import powerbake.address.commons.exceptions.DataLoadingException;
+import powerbake.address.commons.exceptions.IllegalValueException;
+import powerbake.address.commons.util.FileUtil;
+import powerbake.address.commons.util.JsonUtil;
+import powerbake.address.model.AddressBook;
+import powerbake.address.model.ReadOnlyAddressBook;
+import powerbake.address.model.order.Order;
+import powerbake.address.model.pastry.Pastry;
+import powerbake.address.model.person.Person;
+
+/**
+ * An {@code AddressBookStorage} that appends every addition, edit and deletion to a journal file instead of
+ * rewriting the whole data file on each save.
+ * The full data file (the checkpoint) is written through the wrapped storage on the first save of an address book,
+ * after a bulk change (e.g. {@code clear}) and once every {@code checkpointInterval} journal entries.
+ * Reading the data loads the checkpoint and replays the journal on top of it.
+ * Each journal starts with a header holding the checksum of the checkpoint file it was started on. A journal whose
+ * checksum does not match the checkpoint file that is loaded (e.g. when a crash happened after a new checkpoint was
+ * written but before the journal was discarded) is ignored, so that its entries are never replayed on the wrong data.
+ * Journals without a header, written by earlier versions, are replayed as they are.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 500;
+    public static final String HEADER_PREFIX = "#checkpoint ";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final AddressBookStorage checkpointStorage;
+    private final int checkpointInterval;
+
+    private final ListChangeListener<Person> personListener =
+            change -> recordChange(change, JsonAdaptedJournalEntry::ofPerson);
+    private final ListChangeListener<Pastry> pastryListener =
+            change -> recordChange(change, JsonAdaptedJournalEntry::ofPastry);
+    private final ListChangeListener<Order> orderListener =
+            change -> recordChange(change, JsonAdaptedJournalEntry::ofOrder);
+
+    private final List<JsonAdaptedJournalEntry> pendingEntries = new ArrayList<>();
+    private ReadOnlyAddressBook trackedAddressBook;
+    private int entriesSinceCheckpoint;
+    private long checkpointChecksum;
+    private boolean isCheckpointRequired = true;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that writes its checkpoints through {@code checkpointStorage}.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage checkpointStorage) {
+        this(checkpointStorage, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that writes a checkpoint once every
+     * {@code checkpointInterval} journal entries.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage checkpointStorage, int checkpointInterval) {
+        requireNonNull(checkpointStorage);
+        assert checkpointInterval > 0;
+        this.checkpointStorage = checkpointStorage;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Returns the location of the journal kept alongside the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return checkpointStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> checkpoint = checkpointStorage.readAddressBook(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!Files.exists(journalFilePath)) {
+            return checkpoint;
+        }
+
+        String[] lines;
+        try {
+            lines = FileUtil.readFromFile(journalFilePath).split("\n");
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        int firstEntry = 0;
+        if (lines[0].startsWith(HEADER_PREFIX)) {
+            if (!isJournalOf(lines[0], getCheckpointFilePath(filePath))) {
+                logger.warning("Ignoring journal file " + journalFilePath
+                        + " as it was not started on the checkpoint that was loaded");
+                return checkpoint;
+            }
+            firstEntry = 1;
+        }
+
+        AddressBook addressBook = new AddressBook(checkpoint.orElseGet(AddressBook::new));
+        int replayedEntries = 0;
+        for (int i = firstEntry; i < lines.length; i++) {
+            if (lines[i].isBlank()) {
+                continue;
+            }
+
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines[i], JsonAdaptedJournalEntry.class);
+            } catch (IOException ioe) {
+                if (i == lines.length - 1) {
+                    // the last entry may have been cut short by a crash while it was being appended
+                    logger.warning("Ignoring incomplete last entry of journal file " + journalFilePath);
+                    break;
+                }
+                logger.warning("Error reading entry " + (i + 1) + " of journal file " + journalFilePath + ": " + ioe);
+                throw new DataLoadingException(ioe);
+            }
+
+            try {
+                entry.applyTo(addressBook);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in entry " + (i + 1) + " of " + journalFilePath + ": "
+                        + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+            replayedEntries++;
+        }
+
+        logger.info("Replayed " + replayedEntries + " entries from journal file " + journalFilePath);
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Returns true if the journal {@code header} holds the checksum of the file at {@code checkpointFilePath}.
+     */
+    private static boolean isJournalOf(String header, Path checkpointFilePath) throws DataLoadingException {
+        long journalChecksum;
+        try {
+            journalChecksum = Long.parseLong(header.substring(HEADER_PREFIX.length()).trim(), 16);
+        } catch (NumberFormatException nfe) {
+            return false;
+        }
+        try {
+            return journalChecksum == getChecksum(checkpointFilePath);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from checkpoint file " + checkpointFilePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    /**
+     * Returns the file the checkpoint of {@code filePath} is read from: the data file itself, or its backup if
+     * the data file is missing, as when a crash happened while the data file was being replaced.
+     */
+    private static Path getCheckpointFilePath(Path filePath) {
+        return Files.exists(filePath) ? filePath : FileAddressBookStorage.getBackupFilePath(filePath);
+    }
+
+    /**
+     * Returns the CRC-32 checksum of the file at {@code filePath}, or 0 if there is no such file.
+     */
+    private static long getChecksum(Path filePath) throws IOException {
+        CRC32 checksum = new CRC32();
+        if (!Files.exists(filePath)) {
+            return checksum.getValue();
+        }
+        try (InputStream in = Files.newInputStream(filePath)) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                checksum.update(buffer, 0, read);
+            }
+        }
+        return checksum.getValue();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the data file of this storage is journaled; saving to any other location writes a full copy.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            checkpointStorage.saveAddressBook(addressBook, filePath);
+            Files.deleteIfExists(getJournalFilePath(filePath));
+            return;
+        }
+
+        if (addressBook != trackedAddressBook) {
+            track(addressBook);
+        }
+
+        if (isCheckpointRequired) {
+            writeCheckpoint(addressBook, filePath);
+        } else if (!pendingEntries.isEmpty()) {
+            appendPendingEntries(filePath);
+        }
+    }
+
+    /**
+     * Starts recording the changes made to {@code addressBook}, replacing the previously tracked address book.
+     * The journal only holds changes relative to the last checkpoint of {@code addressBook},
+     * so the next save writes a new checkpoint.
+     */
+    private void track(ReadOnlyAddressBook addressBook) {
+        if (trackedAddressBook != null) {
+            trackedAddressBook.getPersonList().removeListener(personListener);
+            trackedAddressBook.getPastryList().removeListener(pastryListener);
+            trackedAddressBook.getOrderList().removeListener(orderListener);
+        }
+
+        trackedAddressBook = addressBook;
+        addressBook.getPersonList().addListener(personListener);
+        addressBook.getPastryList().addListener(pastryListener);
+        addressBook.getOrderList().addListener(orderListener);
+        requireCheckpoint();
+    }
+
+    /**
+     * Converts {@code change} into journal entries.
+     * Changes that cannot be replayed as a sequence of single additions, edits and deletions at the same positions
+     * (e.g. replacing the whole list) fall back to writing a checkpoint.
+     */
+    private <T> void recordChange(ListChangeListener.Change<? extends T> change,
+            BiFunction<T, T, JsonAdaptedJournalEntry> toEntry) {
+        while (change.next() && !isCheckpointRequired) {
+            List<? extends T> removed = change.getRemoved();
+            List<? extends T> added = change.getAddedSubList();
+
+            if (change.wasPermutated() || change.wasUpdated()) {
+                requireCheckpoint();
+            } else if (change.wasReplaced() && removed.size() == 1 && added.size() == 1) {
+                pendingEntries.add(toEntry.apply(removed.get(0), added.get(0)));
+            } else if (!change.wasRemoved() && change.getTo() == change.getList().size()) {
+                added.forEach(item -> pendingEntries.add(toEntry.apply(null, item)));
+            } else if (!change.wasAdded()) {
+                removed.forEach(item -> pendingEntries.add(toEntry.apply(item, null)));
+            } else {
+                requireCheckpoint();
+            }
+
+            if (entriesSinceCheckpoint + pendingEntries.size() >= checkpointInterval) {
+                requireCheckpoint();
+            }
+        }
+    }
+
+    private void requireCheckpoint() {
+        isCheckpointRequired = true;
+        pendingEntries.clear();
+    }
+
+    /**
+     * Writes the whole of {@code addressBook} to {@code filePath} and discards the journal.
+     */
+    private void writeCheckpoint(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        checkpointStorage.saveAddressBook(addressBook, filePath);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+
+        checkpointChecksum = getChecksum(getCheckpointFilePath(filePath));
+        entriesSinceCheckpoint = 0;
+        isCheckpointRequired = false;
+        pendingEntries.clear();
+        logger.fine("Wrote checkpoint of address book to " + filePath);
+    }
+
+    /**
+     * Appends the pending entries to the journal of {@code filePath} in a single write, and forces them to disk.
+     * The first entries after a checkpoint start a new journal with a header for that checkpoint.
+     */
+    private void appendPendingEntries(Path filePath) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        if (entriesSinceCheckpoint == 0) {
+            lines.append(HEADER_PREFIX).append(Long.toHexString(checkpointChecksum)).append('\n');
+        }
+        for (JsonAdaptedJournalEntry entry : pendingEntries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        try (FileChannel journal = FileChannel.open(getJournalFilePath(filePath), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+            journal.force(false);
+        } catch (IOException ioe) {
+            // the journal may now end with a partial entry, so it must not be appended to again
+            requireCheckpoint();
+            throw ioe;
+        }
+
+        entriesSinceCheckpoint += pendingEntries.size();
+        pendingEntries.clear();
+    }
+
+}
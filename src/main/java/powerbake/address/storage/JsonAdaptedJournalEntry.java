@@ -0,0 +1,176 @@
+package powerbake.address.storage;
+
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import powerbake.address.commons.exceptions.IllegalValueException;
+import powerbake.address.model.AddressBook;
+import powerbake.address.model.order.Order;
+import powerbake.address.model.pastry.Pastry;
+import powerbake.address.model.person.Person;
+
+/**
+ * Jackson-friendly record of a single addition, edit or deletion made to the address book.
+ * An entry holds the affected {@code Person}, {@code Pastry} or {@code Order} before the change (if any)
+ * and after the change (if any).
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String ACTION_ADD = "add";
+    public static final String ACTION_SET = "set";
+    public static final String ACTION_REMOVE = "remove";
+
+    public static final String MESSAGE_MALFORMED_ENTRY = "Journal entry is malformed!";
+    public static final String MESSAGE_CONFLICTING_ENTRY = "Journal entry conflicts with the existing data!";
+
+    private final String action;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedPerson editedPerson;
+    private final JsonAdaptedPastry pastry;
+    private final JsonAdaptedPastry editedPastry;
+    private final JsonAdaptedOrder order;
+    private final JsonAdaptedOrder editedOrder;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("action") String action,
+            @JsonProperty("person") JsonAdaptedPerson person,
+            @JsonProperty("editedPerson") JsonAdaptedPerson editedPerson,
+            @JsonProperty("pastry") JsonAdaptedPastry pastry,
+            @JsonProperty("editedPastry") JsonAdaptedPastry editedPastry,
+            @JsonProperty("order") JsonAdaptedOrder order,
+            @JsonProperty("editedOrder") JsonAdaptedOrder editedOrder) {
+        this.action = action;
+        this.person = person;
+        this.editedPerson = editedPerson;
+        this.pastry = pastry;
+        this.editedPastry = editedPastry;
+        this.order = order;
+        this.editedOrder = editedOrder;
+    }
+
+    /**
+     * Returns an entry recording that {@code target} was replaced by {@code edited}.
+     * A null {@code target} records an addition and a null {@code edited} records a deletion.
+     */
+    public static JsonAdaptedJournalEntry ofPerson(Person target, Person edited) {
+        return new JsonAdaptedJournalEntry(getAction(target, edited),
+                target == null ? null : new JsonAdaptedPerson(target),
+                edited == null ? null : new JsonAdaptedPerson(edited), null, null, null, null);
+    }
+
+    /**
+     * Similar to {@link #ofPerson(Person, Person)}.
+     */
+    public static JsonAdaptedJournalEntry ofPastry(Pastry target, Pastry edited) {
+        return new JsonAdaptedJournalEntry(getAction(target, edited), null, null,
+                target == null ? null : new JsonAdaptedPastry(target),
+                edited == null ? null : new JsonAdaptedPastry(edited), null, null);
+    }
+
+    /**
+     * Similar to {@link #ofPerson(Person, Person)}.
+     */
+    public static JsonAdaptedJournalEntry ofOrder(Order target, Order edited) {
+        return new JsonAdaptedJournalEntry(getAction(target, edited), null, null, null, null,
+                target == null ? null : new JsonAdaptedOrder(target),
+                edited == null ? null : new JsonAdaptedOrder(edited));
+    }
+
+    private static String getAction(Object target, Object edited) {
+        assert target != null || edited != null;
+        if (target == null) {
+            return ACTION_ADD;
+        }
+        return edited == null ? ACTION_REMOVE : ACTION_SET;
+    }
+
+    /**
+     * Applies the change recorded by this entry to {@code addressBook}.
+     * Entries whose change is already reflected in {@code addressBook} are skipped, so that replaying
+     * a journal over a snapshot that was written after the journal is harmless.
+     * Whether a change is already reflected is looked up through the identity indexes of {@code addressBook}.
+     *
+     * @throws IllegalValueException if the entry is malformed or cannot be applied to {@code addressBook}.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        if (person != null || editedPerson != null) {
+            apply(person == null ? null : person.toModelType(),
+                    editedPerson == null ? null : editedPerson.toModelType(),
+                    person -> addressBook.findPersonByPhone(person.getPhone()), Person::isSamePerson,
+                    addressBook::addPerson, addressBook::setPerson, addressBook::removePerson);
+        } else if (pastry != null || editedPastry != null) {
+            apply(pastry == null ? null : pastry.toModelType(),
+                    editedPastry == null ? null : editedPastry.toModelType(),
+                    pastry -> addressBook.findPastryByName(pastry.getName().name), Pastry::isSamePastry,
+                    addressBook::addPastry, addressBook::setPastry, addressBook::removePastry);
+        } else if (order != null || editedOrder != null) {
+            apply(order == null ? null : order.toModelType(addressBook),
+                    editedOrder == null ? null : editedOrder.toModelType(addressBook),
+                    order -> addressBook.getOrderById(order.getOrderId()), Order::isSameOrder,
+                    addressBook::addOrder, addressBook::setOrder, addressBook::removeOrder);
+        } else {
+            throw new IllegalValueException(MESSAGE_MALFORMED_ENTRY);
+        }
+    }
+
+    /**
+     * Applies the change from {@code target} to {@code edited}, where {@code findSameIdentity} returns the element
+     * in the address book with the same identity as the given one, if any.
+     */
+    private <T> void apply(T target, T edited, Function<T, Optional<T>> findSameIdentity,
+            BiPredicate<T, T> isSameIdentity, Consumer<T> add, BiConsumer<T, T> set, Consumer<T> remove)
+            throws IllegalValueException {
+        if (!isConsistentWithAction(target, edited)) {
+            throw new IllegalValueException(MESSAGE_MALFORMED_ENTRY);
+        }
+
+        if (target == null) {
+            Optional<T> existing = findSameIdentity.apply(edited);
+            if (existing.isPresent()) {
+                if (existing.get().equals(edited)) {
+                    return;
+                }
+                throw new IllegalValueException(MESSAGE_CONFLICTING_ENTRY);
+            }
+            add.accept(edited);
+            return;
+        }
+
+        if (!findSameIdentity.apply(target).filter(target::equals).isPresent()) {
+            return;
+        }
+        if (edited == null) {
+            remove.accept(target);
+            return;
+        }
+        if (!isSameIdentity.test(target, edited) && findSameIdentity.apply(edited).isPresent()) {
+            throw new IllegalValueException(MESSAGE_CONFLICTING_ENTRY);
+        }
+        set.accept(target, edited);
+    }
+
+    private boolean isConsistentWithAction(Object target, Object edited) {
+        if (ACTION_ADD.equals(action)) {
+            return target == null && edited != null;
+        }
+        if (ACTION_SET.equals(action)) {
+            return target != null && edited != null;
+        }
+        if (ACTION_REMOVE.equals(action)) {
+            return target != null && edited == null;
+        }
+        return false;
+    }
+
+}
@@ -3,42 +3,61 @@ package powerbake.address.storage;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import powerbake.address.commons.exceptions.IllegalValueException;
+import powerbake.address.model.AddressBook;
 import powerbake.address.model.order.Order;
 import powerbake.address.model.order.OrderId;
 import powerbake.address.model.order.OrderItem;
 import powerbake.address.model.order.OrderStatus;
 import powerbake.address.model.person.Person;
+import powerbake.address.model.person.Phone;
 
 /**
  * Jackson-friendly version of {@link Order}.
+ * The customer of the order is either embedded in full, or referenced by the phone number of a client
+ * in the same address book.
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class JsonAdaptedOrder {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Order's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_CUSTOMER = "Order's customer %s is not in the client list!";
 
     private final String orderId;
     private final JsonAdaptedPerson customer;
+    private final String customerPhone;
     private final List<JsonAdaptedOrderItem> orderItems = new ArrayList<>();
     private final String orderDate;
     private final String status;
 
+    /**
+     * Constructs a {@code JsonAdaptedOrder} with the given order details and an embedded customer.
+     */
+    public JsonAdaptedOrder(String orderId, JsonAdaptedPerson customer, List<JsonAdaptedOrderItem> orderItems,
+                            String orderDate, String status) {
+        this(orderId, customer, null, orderItems, orderDate, status);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedOrder} with the given order details.
      */
     @JsonCreator
     public JsonAdaptedOrder(@JsonProperty("orderId") String orderId,
                             @JsonProperty("customer") JsonAdaptedPerson customer,
+                            @JsonProperty("customerPhone") String customerPhone,
                             @JsonProperty("orderItems") List<JsonAdaptedOrderItem> orderItems,
                             @JsonProperty("orderDate") String orderDate,
                             @JsonProperty("status") String status) {
         this.orderId = orderId;
         this.customer = customer;
+        this.customerPhone = customerPhone;
         if (orderItems != null) {
             this.orderItems.addAll(orderItems);
         }
@@ -47,11 +66,27 @@ public class JsonAdaptedOrder {
     }
 
     /**
-     * Converts a given {@code Order} into this class for Jackson use.
+     * Converts a given {@code Order} into this class for Jackson use, embedding its customer.
      */
     public JsonAdaptedOrder(Order source) {
+        this(source, false);
+    }
+
+    /**
+     * Converts a given {@code Order} into this class for Jackson use.
+     *
+     * @param isCustomerReferenced whether the customer is stored only as a reference to a client
+     *     that is stored alongside this order.
+     */
+    public JsonAdaptedOrder(Order source, boolean isCustomerReferenced) {
         orderId = source.getOrderId().toString();
-        customer = new JsonAdaptedPerson(source.getCustomer());
+        if (isCustomerReferenced) {
+            customer = null;
+            customerPhone = source.getCustomer().getPhone().value;
+        } else {
+            customer = new JsonAdaptedPerson(source.getCustomer());
+            customerPhone = null;
+        }
         orderItems.addAll(source.getOrderItems().stream()
                 .map(JsonAdaptedOrderItem::new)
                 .collect(Collectors.toList()));
@@ -61,10 +96,23 @@ public class JsonAdaptedOrder {
 
     /**
      * Converts this Jackson-friendly adapted order object into the model's {@code Order} object.
+     * The customer must be embedded in this order.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted order.
      */
     public Order toModelType() throws IllegalValueException {
+        return toModelType(new AddressBook());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted order object into the model's {@code Order} object.
+     * The customer is resolved to the matching client in {@code addressBook}, so that all orders of a client
+     * share the same {@code Person}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted order,
+     *     or if the referenced customer is not in {@code addressBook}.
+     */
+    public Order toModelType(AddressBook addressBook) throws IllegalValueException {
         if (orderId == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "orderId"));
         }
@@ -73,10 +121,7 @@ public class JsonAdaptedOrder {
         }
         final OrderId modelOrderId = new OrderId(orderId);
 
-        if (customer == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "customer"));
-        }
-        final Person modelCustomer = customer.toModelType();
+        final Person modelCustomer = toModelCustomer(addressBook);
 
         final List<OrderItem> modelOrderItems = new ArrayList<>();
         for (JsonAdaptedOrderItem item : orderItems) {
@@ -106,7 +151,30 @@ public class JsonAdaptedOrder {
             throw new IllegalValueException("Invalid order status");
         }
 
-        return new Order(modelOrderId, modelCustomer, modelOrderItems, modelOrderDate, modelStatus);
+        try {
+            return new Order(modelOrderId, modelCustomer, modelOrderItems, modelOrderDate, modelStatus);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    private Person toModelCustomer(AddressBook addressBook) throws IllegalValueException {
+        if (customer == null && customerPhone == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "customer"));
+        }
+
+        if (customer == null) {
+            if (!Phone.isValidPhone(customerPhone)) {
+                throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+            }
+            return addressBook.findPersonByPhone(new Phone(customerPhone)).orElseThrow(() ->
+                    new IllegalValueException(String.format(MESSAGE_UNKNOWN_CUSTOMER, customerPhone)));
+        }
+
+        // an embedded customer that matches a client is replaced by that client's instance
+        Person embeddedCustomer = customer.toModelType();
+        Optional<Person> client = addressBook.findPersonByPhone(embeddedCustomer.getPhone());
+        return client.filter(embeddedCustomer::equals).orElse(embeddedCustomer);
     }
 
     /**
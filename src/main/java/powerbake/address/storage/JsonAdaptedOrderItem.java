@@ -54,6 +54,10 @@ public class JsonAdaptedOrderItem {
             throw new IllegalValueException(INVALID_QUANTITY);
         }
 
-        return new OrderItem(modelPastry, quantity);
+        try {
+            return new OrderItem(modelPastry, quantity);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
     }
 }
@@ -0,0 +1,104 @@
+package powerbake.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import powerbake.address.commons.exceptions.IllegalValueException;
+import powerbake.address.commons.util.JsonUtil;
+import powerbake.address.model.AddressBook;
+
+/**
+ * Reads an {@code AddressBook} from a JSON file in the format written by {@link JsonSerializableAddressBook}.
+ * The file is parsed one person, pastry or order at a time, and each of them is added to the address book
+ * as soon as it is read, so neither the whole file nor its JSON tree is ever held in memory.
+ */
+class JsonAddressBookReader {
+
+    public static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "Data file does not contain an address book object";
+    public static final String MESSAGE_NOT_A_LIST = "Field '%s' of the address book is not a list";
+    public static final String MESSAGE_NOT_AN_OBJECT = "Item in field '%s' of the address book is not an object";
+
+    /**
+     * Returns the address book stored in the JSON file at {@code filePath}.
+     *
+     * @throws IOException if the file could not be read or is not a valid JSON address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, MESSAGE_NOT_AN_ADDRESS_BOOK);
+            }
+
+            AddressBook addressBook = new AddressBook();
+            // orders may reference clients, so orders listed before the clients are added after them
+            List<JsonAdaptedOrder> deferredOrders = new ArrayList<>();
+            boolean hasReadPersons = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                case "persons":
+                    readItems(parser, fieldName, JsonAdaptedPerson.class,
+                            person -> JsonSerializableAddressBook.addPerson(addressBook, person));
+                    hasReadPersons = true;
+                    break;
+                case "pastries":
+                    readItems(parser, fieldName, JsonAdaptedPastry.class,
+                            pastry -> JsonSerializableAddressBook.addPastry(addressBook, pastry));
+                    break;
+                case "orders":
+                    if (hasReadPersons) {
+                        readItems(parser, fieldName, JsonAdaptedOrder.class,
+                                order -> JsonSerializableAddressBook.addOrder(addressBook, order));
+                    } else {
+                        readItems(parser, fieldName, JsonAdaptedOrder.class, deferredOrders::add);
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+                }
+            }
+
+            for (JsonAdaptedOrder order : deferredOrders) {
+                JsonSerializableAddressBook.addOrder(addressBook, order);
+            }
+            return addressBook;
+        }
+    }
+
+    /**
+     * Reads the list at the current token of {@code parser}, passing each item to {@code consumer} as it is read.
+     */
+    private static <T> void readItems(JsonParser parser, String fieldName, Class<T> itemClass,
+            ItemConsumer<T> consumer) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, String.format(MESSAGE_NOT_A_LIST, fieldName));
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, String.format(MESSAGE_NOT_AN_OBJECT, fieldName));
+            }
+            consumer.accept(parser.readValueAs(itemClass));
+        }
+    }
+
+    /**
+     * Represents an operation on an item read from the file that may find the item to be invalid.
+     */
+    @FunctionalInterface
+    private interface ItemConsumer<T> {
+        void accept(T item) throws IllegalValueException;
+    }
+}
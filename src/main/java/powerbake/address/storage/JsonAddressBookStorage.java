@@ -1,80 +1,38 @@
 package powerbake.address.storage;
 
-import static java.util.Objects.requireNonNull;
-
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Optional;
-import java.util.logging.Logger;
 
-import powerbake.address.commons.core.LogsCenter;
-import powerbake.address.commons.exceptions.DataLoadingException;
 import powerbake.address.commons.exceptions.IllegalValueException;
-import powerbake.address.commons.util.FileUtil;
-import powerbake.address.commons.util.JsonUtil;
 import powerbake.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
  */
-public class JsonAddressBookStorage implements AddressBookStorage {
-
-    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
+public class JsonAddressBookStorage extends FileAddressBookStorage {
 
-    private Path filePath;
+    private final boolean isCompact;
 
     public JsonAddressBookStorage(Path filePath) {
-        this.filePath = filePath;
-    }
-
-    public Path getAddressBookFilePath() {
-        return filePath;
-    }
-
-    @Override
-    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
-        return readAddressBook(filePath);
+        this(filePath, false);
     }
 
     /**
-     * Similar to {@link #readAddressBook()}.
-     *
-     * @param filePath location of the data. Cannot be null.
-     * @throws DataLoadingException if loading the data from storage failed.
+     * Creates a {@code JsonAddressBookStorage} that writes the data file without indentation if {@code isCompact}.
      */
-    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
-        requireNonNull(filePath);
-
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataLoadingException(ive);
-        }
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
+        super(filePath);
+        this.isCompact = isCompact;
     }
 
     @Override
-    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, filePath);
+    protected ReadOnlyAddressBook readFile(Path filePath) throws IOException, IllegalValueException {
+        return JsonAddressBookReader.read(filePath);
     }
 
-    /**
-     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
-     *
-     * @param filePath location of the data. Cannot be null.
-     */
-    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        requireNonNull(addressBook);
-        requireNonNull(filePath);
-
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+    @Override
+    protected void writeFile(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        JsonAddressBookWriter.write(addressBook, filePath, isCompact);
     }
 
 }
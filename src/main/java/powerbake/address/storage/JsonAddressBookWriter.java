@@ -0,0 +1,72 @@
+package powerbake.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import powerbake.address.commons.util.JsonUtil;
+import powerbake.address.model.ReadOnlyAddressBook;
+import powerbake.address.model.order.Order;
+import powerbake.address.model.pastry.Pastry;
+import powerbake.address.model.person.Person;
+import powerbake.address.model.person.Phone;
+
+/**
+ * Writes an address book to a JSON file in the same format as {@link JsonSerializableAddressBook}.
+ * Each person, pastry and order is converted and written to the file one at a time through the generator's
+ * output buffer, so the JSON data of the whole address book is never held in memory.
+ */
+class JsonAddressBookWriter {
+
+    /**
+     * Writes {@code addressBook} to the file at {@code filePath}, replacing its contents.
+     * The file is forced to disk before this method returns.
+     *
+     * @param isCompact whether the file should be written without indentation.
+     * @throws IOException if there was an error during writing to the file.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, Path filePath, boolean isCompact) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Map<Phone, Person> clients = new HashMap<>();
+        addressBook.getPersonList().forEach(person -> clients.put(person.getPhone(), person));
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+                JsonGenerator generator = JsonUtil.createGenerator(Channels.newOutputStream(channel), isCompact)) {
+            generator.writeStartObject();
+
+            generator.writeArrayFieldStart("persons");
+            for (Person person : addressBook.getPersonList()) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("pastries");
+            for (Pastry pastry : addressBook.getPastryList()) {
+                generator.writeObject(new JsonAdaptedPastry(pastry));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("orders");
+            for (Order order : addressBook.getOrderList()) {
+                Person customer = order.getCustomer();
+                generator.writeObject(new JsonAdaptedOrder(order, customer.equals(clients.get(customer.getPhone()))));
+            }
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+            generator.flush();
+            channel.force(true);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package powerbake.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -14,9 +16,11 @@ import powerbake.address.model.ReadOnlyAddressBook;
 import powerbake.address.model.order.Order;
 import powerbake.address.model.pastry.Pastry;
 import powerbake.address.model.person.Person;
+import powerbake.address.model.person.Phone;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ * Orders placed by a client in the address book reference that client instead of embedding a copy of them.
  */
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
@@ -49,7 +53,12 @@ class JsonSerializableAddressBook {
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
         pastries.addAll(source.getPastryList().stream().map(JsonAdaptedPastry::new).collect(Collectors.toList()));
-        orders.addAll(source.getOrderList().stream().map(JsonAdaptedOrder::new).collect(Collectors.toList()));
+        Map<Phone, Person> clients = new HashMap<>();
+        source.getPersonList().forEach(person -> clients.put(person.getPhone(), person));
+        orders.addAll(source.getOrderList().stream()
+                .map(order -> new JsonAdaptedOrder(order,
+                        order.getCustomer().equals(clients.get(order.getCustomer().getPhone()))))
+                .collect(Collectors.toList()));
     }
 
     /**
@@ -60,27 +69,58 @@ class JsonSerializableAddressBook {
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+            addPerson(addressBook, jsonAdaptedPerson);
         }
         for (JsonAdaptedPastry jsonAdaptedPastry : pastries) {
-            Pastry pastry = jsonAdaptedPastry.toModelType();
-            if (addressBook.hasPastry(pastry)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PASTRY);
-            }
-            addressBook.addPastry(pastry);
+            addPastry(addressBook, jsonAdaptedPastry);
         }
         for (JsonAdaptedOrder jsonAdaptedOrder : orders) {
-            Order order = jsonAdaptedOrder.toModelType();
-            if (addressBook.hasOrder(order)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ORDER);
-            }
-            addressBook.addOrder(order);
+            addOrder(addressBook, jsonAdaptedOrder);
         }
         return addressBook;
     }
 
+    /**
+     * Converts {@code jsonAdaptedPerson} and adds it to {@code addressBook}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void addPerson(AddressBook addressBook, JsonAdaptedPerson jsonAdaptedPerson)
+            throws IllegalValueException {
+        Person person = jsonAdaptedPerson.toModelType();
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        addressBook.addPerson(person);
+    }
+
+    /**
+     * Converts {@code jsonAdaptedPastry} and adds it to {@code addressBook}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void addPastry(AddressBook addressBook, JsonAdaptedPastry jsonAdaptedPastry)
+            throws IllegalValueException {
+        Pastry pastry = jsonAdaptedPastry.toModelType();
+        if (addressBook.hasPastry(pastry)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PASTRY);
+        }
+        addressBook.addPastry(pastry);
+    }
+
+    /**
+     * Converts {@code jsonAdaptedOrder} and adds it to {@code addressBook}.
+     * The customer of the order must already be in {@code addressBook} if it is referenced.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void addOrder(AddressBook addressBook, JsonAdaptedOrder jsonAdaptedOrder)
+            throws IllegalValueException {
+        Order order = jsonAdaptedOrder.toModelType(addressBook);
+        if (addressBook.hasOrder(order)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ORDER);
+        }
+        addressBook.addOrder(order);
+    }
+
 }
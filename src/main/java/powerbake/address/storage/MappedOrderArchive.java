@@ -0,0 +1,292 @@
+package powerbake.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import powerbake.address.commons.core.LogsCenter;
+import powerbake.address.commons.exceptions.IllegalValueException;
+import powerbake.address.commons.util.FileUtil;
+import powerbake.address.commons.util.JsonUtil;
+import powerbake.address.model.AddressBook;
+import powerbake.address.model.order.Order;
+import powerbake.address.model.order.OrderArchive;
+import powerbake.address.model.order.OrderId;
+import powerbake.address.model.order.OrderQuery;
+import powerbake.address.model.order.OrderStatus;
+
+/**
+ * An {@code OrderArchive} kept in two memory-mapped files next to the data file.
+ * <p>
+ * The archive file ({@code <data file>.archive}) holds each archived order as compact JSON, one after another.
+ * The index file ({@code <data file>.archive.index}) starts with a header of {@link #MAGIC_NUMBER} and
+ * {@link #FORMAT_VERSION}, followed by one {@value #RECORD_SIZE}-byte record per archived order: the two halves of
+ * its order ID, its order date in epoch seconds (UTC), the position and length of its JSON in the archive file and
+ * its status. The fixed record size allows the index to be scanned without reading the archive file, and an order
+ * is only read from the archive file and converted into an {@code Order} when a search reaches it.
+ * <p>
+ * Orders are appended to the archive file before their records are appended to the index, so an archive that
+ * was cut short by a crash only loses the orders whose records are incomplete.
+ */
+public class MappedOrderArchive implements OrderArchive {
+
+    public static final String ARCHIVE_FILE_SUFFIX = ".archive";
+    public static final String INDEX_FILE_SUFFIX = ".index";
+    public static final int MAGIC_NUMBER = 0x50424B41; // "PBKA"
+    public static final int FORMAT_VERSION = 1;
+    public static final int HEADER_SIZE = 8;
+    public static final int RECORD_SIZE = 40;
+
+    private static final int MSB_OFFSET = 0;
+    private static final int LSB_OFFSET = 8;
+    private static final int DATE_OFFSET = 16;
+    private static final int POSITION_OFFSET = 24;
+    private static final int LENGTH_OFFSET = 32;
+    private static final int STATUS_OFFSET = 36;
+
+    private static final Logger logger = LogsCenter.getLogger(MappedOrderArchive.class);
+
+    private final Path archiveFilePath;
+    private final Path indexFilePath;
+    private MappedByteBuffer index;
+    private MappedByteBuffer archive;
+    private int size;
+
+    /**
+     * Creates a {@code MappedOrderArchive} for the data file at {@code filePath}.
+     * The archive is empty until {@link #open()} is called.
+     */
+    public MappedOrderArchive(Path filePath) {
+        requireNonNull(filePath);
+        archiveFilePath = getArchiveFilePath(filePath);
+        indexFilePath = archiveFilePath.resolveSibling(archiveFilePath.getFileName() + INDEX_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the location of the archive file kept alongside the data file at {@code filePath}.
+     */
+    public static Path getArchiveFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ARCHIVE_FILE_SUFFIX);
+    }
+
+    /**
+     * Maps the archive and index files into memory, if they exist.
+     *
+     * @throws IOException if the files could not be mapped or the index file is not an archive index.
+     */
+    public void open() throws IOException {
+        index = null;
+        archive = null;
+        size = 0;
+        // an index without a complete header was cut short while being created, so it has no records
+        if (!Files.exists(indexFilePath) || Files.size(indexFilePath) < HEADER_SIZE) {
+            return;
+        }
+
+        MappedByteBuffer newIndex;
+        try (FileChannel channel = FileChannel.open(indexFilePath, StandardOpenOption.READ)) {
+            long completeRecords = (channel.size() - HEADER_SIZE) / RECORD_SIZE;
+            newIndex = map(channel, HEADER_SIZE + completeRecords * RECORD_SIZE);
+            if (newIndex.getInt(0) != MAGIC_NUMBER || newIndex.getInt(4) != FORMAT_VERSION) {
+                throw new IOException("File " + indexFilePath + " is not a supported order archive index");
+            }
+        }
+        try (FileChannel channel = FileChannel.open(archiveFilePath, StandardOpenOption.READ)) {
+            archive = map(channel, channel.size());
+        }
+        index = newIndex;
+        size = (index.capacity() - HEADER_SIZE) / RECORD_SIZE;
+        logger.info("Opened order archive " + archiveFilePath + " with " + size + " orders");
+    }
+
+    private MappedByteBuffer map(FileChannel channel, long length) throws IOException {
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("Order archive files larger than 2GB are not supported");
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+    }
+
+    /**
+     * Moves the delivered and cancelled orders in {@code addressBook} that were placed before {@code cutoff}
+     * into the archive. Orders that are already in the archive are only removed from {@code addressBook}.
+     * Returns the number of orders removed from {@code addressBook}.
+     * The archive must have been opened with {@link #open()}.
+     *
+     * @throws IOException if the orders could not be written to the archive, in which case
+     *     {@code addressBook} is left unchanged.
+     */
+    public int archiveOrders(AddressBook addressBook, LocalDateTime cutoff) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(cutoff);
+
+        List<Order> toRemove = new ArrayList<>();
+        List<Order> toKeep = new ArrayList<>();
+        for (Order order : addressBook.getOrderList()) {
+            if (isArchivable(order, cutoff)) {
+                toRemove.add(order);
+            } else {
+                toKeep.add(order);
+            }
+        }
+        if (toRemove.isEmpty()) {
+            return 0;
+        }
+
+        Set<OrderId> archivedOrderIds = getArchivedOrderIds();
+        List<Order> toAppend = new ArrayList<>(toRemove);
+        toAppend.removeIf(order -> archivedOrderIds.contains(order.getOrderId()));
+        append(toAppend);
+
+        addressBook.setOrders(toKeep);
+        logger.info("Archived " + toAppend.size() + " orders to " + archiveFilePath);
+        return toRemove.size();
+    }
+
+    private static boolean isArchivable(Order order, LocalDateTime cutoff) {
+        return (order.getStatus() == OrderStatus.DELIVERED || order.getStatus() == OrderStatus.CANCELLED)
+                && order.getOrderDate().isBefore(cutoff);
+    }
+
+    /**
+     * Appends {@code orders} to the archive file, then their records to the index file, and maps both again.
+     */
+    private void append(List<Order> orders) throws IOException {
+        if (orders.isEmpty()) {
+            return;
+        }
+        FileUtil.createParentDirsOfFile(archiveFilePath);
+
+        ByteBuffer records = ByteBuffer.allocate(orders.size() * RECORD_SIZE);
+        try (FileChannel channel = FileChannel.open(archiveFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE)) {
+            long position = channel.size();
+            channel.position(position);
+            for (Order order : orders) {
+                ByteBuffer json = ByteBuffer.wrap(JsonUtil.toCompactJsonString(new JsonAdaptedOrder(order))
+                        .getBytes(StandardCharsets.UTF_8));
+                putRecord(records, order, position, json.remaining());
+                while (json.hasRemaining()) {
+                    position += channel.write(json);
+                }
+            }
+            channel.force(true);
+        }
+
+        records.flip();
+        try (FileChannel channel = FileChannel.open(indexFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE)) {
+            if (channel.size() < HEADER_SIZE) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC_NUMBER).putInt(FORMAT_VERSION);
+                header.flip();
+                channel.write(header, 0);
+            }
+            // overwrites any incomplete record left by an earlier crash, which is shorter than the records written;
+            // the file is not truncated as it is still mapped until the archive is opened again
+            long end = HEADER_SIZE + (channel.size() - HEADER_SIZE) / RECORD_SIZE * RECORD_SIZE;
+            channel.position(end);
+            while (records.hasRemaining()) {
+                channel.write(records);
+            }
+            channel.force(true);
+        }
+
+        open();
+    }
+
+    private static void putRecord(ByteBuffer records, Order order, long position, int length) {
+        records.putLong(order.getOrderId().getMostSignificantBits())
+                .putLong(order.getOrderId().getLeastSignificantBits())
+                .putLong(order.getOrderDate().toEpochSecond(ZoneOffset.UTC))
+                .putLong(position)
+                .putInt(length)
+                .put((byte) order.getStatus().ordinal())
+                .put(new byte[RECORD_SIZE - STATUS_OFFSET - 1]);
+    }
+
+    /**
+     * Returns the IDs of all archived orders, read from the index file.
+     */
+    private Set<OrderId> getArchivedOrderIds() {
+        Set<OrderId> orderIds = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            int record = HEADER_SIZE + i * RECORD_SIZE;
+            orderIds.add(new OrderId(index.getLong(record + MSB_OFFSET), index.getLong(record + LSB_OFFSET)));
+        }
+        return orderIds;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The status and dates of {@code query} are checked against the index records first, so only the orders
+     * that pass them are read from the archive file.
+     * Orders that can no longer be read from the archive file are skipped.
+     */
+    @Override
+    public List<Order> findOrders(OrderQuery query) {
+        requireNonNull(query);
+        int statusOrdinal = query.getStatus().map(OrderStatus::ordinal).orElse(-1);
+        long startSecond = query.getFromDate()
+                .map(fromDate -> fromDate.atStartOfDay().toEpochSecond(ZoneOffset.UTC))
+                .orElse(Long.MIN_VALUE);
+        long endSecond = query.getToDate()
+                .map(toDate -> toDate.plusDays(1).atStartOfDay().toEpochSecond(ZoneOffset.UTC))
+                .orElse(Long.MAX_VALUE);
+
+        List<Order> matches = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            int record = HEADER_SIZE + i * RECORD_SIZE;
+            long orderSecond = index.getLong(record + DATE_OFFSET);
+            if ((statusOrdinal != -1 && index.get(record + STATUS_OFFSET) != statusOrdinal)
+                    || orderSecond < startSecond || orderSecond >= endSecond) {
+                continue;
+            }
+            Order order = materialize(i);
+            if (order != null && query.test(order)) {
+                matches.add(order);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Reads the {@code i}-th archived order from the archive file, or returns null if it cannot be read.
+     */
+    private Order materialize(int i) {
+        int record = HEADER_SIZE + i * RECORD_SIZE;
+        long position = index.getLong(record + POSITION_OFFSET);
+        int length = index.getInt(record + LENGTH_OFFSET);
+        if (position < 0 || length < 0 || position + length > archive.capacity()) {
+            logger.warning("Archived order " + i + " is outside of archive file " + archiveFilePath);
+            return null;
+        }
+
+        byte[] json = new byte[length];
+        archive.get((int) position, json);
+        try {
+            return JsonUtil.fromJsonString(new String(json, StandardCharsets.UTF_8), JsonAdaptedOrder.class)
+                    .toModelType();
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Archived order " + i + " in " + archiveFilePath + " could not be read: " + e);
+            return null;
+        }
+    }
+}
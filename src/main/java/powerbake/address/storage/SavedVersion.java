@@ -0,0 +1,69 @@
+package powerbake.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import powerbake.address.model.ReadOnlyAddressBook;
+
+/**
+ * Remembers which version of an address book was last saved successfully, and where it was saved to,
+ * so that saving the same unchanged address book again can be skipped.
+ * The version of an address book is given by the modification counts of its lists, which also tell
+ * which of the lists have changed since the save.
+ */
+class SavedVersion {
+
+    private ReadOnlyAddressBook addressBook;
+    private Path filePath;
+    private long personModificationCount;
+    private long pastryModificationCount;
+    private long orderModificationCount;
+
+    /**
+     * Records that {@code savedData} was saved successfully to {@code filePath} on behalf of {@code addressBook}.
+     * {@code savedData} is either {@code addressBook} itself or a snapshot taken of it.
+     */
+    public synchronized void record(ReadOnlyAddressBook addressBook, ReadOnlyAddressBook savedData, Path filePath) {
+        requireNonNull(addressBook);
+        requireNonNull(savedData);
+        requireNonNull(filePath);
+        this.addressBook = addressBook;
+        this.filePath = filePath;
+        personModificationCount = savedData.getPersonModificationCount();
+        pastryModificationCount = savedData.getPastryModificationCount();
+        orderModificationCount = savedData.getOrderModificationCount();
+    }
+
+    /**
+     * Returns true if {@code addressBook} has not been modified since it was last saved to {@code filePath},
+     * and the saved file still exists.
+     */
+    public synchronized boolean isUnchanged(ReadOnlyAddressBook addressBook, Path filePath) {
+        return addressBook == this.addressBook && filePath.equals(this.filePath)
+                && !isPersonListChanged(addressBook) && !isPastryListChanged(addressBook)
+                && !isOrderListChanged(addressBook) && Files.exists(filePath);
+    }
+
+    /**
+     * Returns true if the persons list of {@code addressBook} may have changed since the last recorded save.
+     */
+    public synchronized boolean isPersonListChanged(ReadOnlyAddressBook addressBook) {
+        return addressBook != this.addressBook || addressBook.getPersonModificationCount() != personModificationCount;
+    }
+
+    /**
+     * Returns true if the pastries list of {@code addressBook} may have changed since the last recorded save.
+     */
+    public synchronized boolean isPastryListChanged(ReadOnlyAddressBook addressBook) {
+        return addressBook != this.addressBook || addressBook.getPastryModificationCount() != pastryModificationCount;
+    }
+
+    /**
+     * Returns true if the orders list of {@code addressBook} may have changed since the last recorded save.
+     */
+    public synchronized boolean isOrderListChanged(ReadOnlyAddressBook addressBook) {
+        return addressBook != this.addressBook || addressBook.getOrderModificationCount() != orderModificationCount;
+    }
+}
@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows {@code feedbackToUser} in the result display. Can be called from any thread. */
+    void showFeedbackToUser(String feedbackToUser);
+
 }
@@ -51,6 +51,15 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showFeedbackToUser(String feedbackToUser) {
+        Platform.runLater(() -> {
+            if (mainWindow != null) {
+                mainWindow.showFeedbackToUser(feedbackToUser);
+            }
+        });
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
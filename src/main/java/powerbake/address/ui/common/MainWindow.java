@@ -161,7 +161,7 @@ public class MainWindow extends UiPart<Stage> {
         pastryListPanel = new PastryListPanel(logic.getFilteredPastryList());
         pastryListPanelPlaceholder.getChildren().add(pastryListPanel.getRoot());
 
-        orderListPanel = new OrderListPanel(logic.getFilteredOrderList());
+        orderListPanel = new OrderListPanel(logic.getFilteredOrderList(), logic::getOrderListByStatus);
         orderListPanelPlaceholder.getChildren().add(orderListPanel.getRoot());
 
         orderDetailsPanel = new OrderDetailsPanel();
@@ -243,6 +243,14 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.hide();
     }
 
+    /**
+     * Shows {@code feedbackToUser} in the result display, in place of the feedback of the last command.
+     */
+    public void showFeedbackToUser(String feedbackToUser) {
+        logger.info("Result: " + feedbackToUser);
+        resultDisplay.setFeedbackToUser(feedbackToUser);
+    }
+
     public PersonListPanel getPersonListPanel() {
         return personListPanel;
     }
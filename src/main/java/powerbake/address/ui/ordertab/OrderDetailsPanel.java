@@ -15,6 +15,7 @@ import powerbake.address.commons.core.LogsCenter;
 import powerbake.address.model.order.Order;
 import powerbake.address.model.order.OrderItem;
 import powerbake.address.model.order.OrderStatus;
+import powerbake.address.model.pastry.Price;
 import powerbake.address.ui.UiPart;
 
 /**
@@ -67,7 +68,7 @@ public class OrderDetailsPanel extends UiPart<Region> {
                         orderItem.getQuantity() + " x "
                         + orderItem.getPastry().getName().name
                         + " - $"
-                        + String.format("%.2f", orderItem.getSubtotal()));
+                        + Price.formatCents(orderItem.getSubtotalCents()));
             }
         }
     }
@@ -112,7 +113,7 @@ public class OrderDetailsPanel extends UiPart<Region> {
         totalPriceLabel.textProperty().bind(
                 Bindings.createStringBinding(() -> selectedOrderProperty.get() == null
                             ? ""
-                            : "Total: $" + String.format("%.2f", selectedOrderProperty.get().getTotalPrice()),
+                            : "Total: $" + Price.formatCents(selectedOrderProperty.get().getTotalCents()),
                             selectedOrderProperty)
         );
 
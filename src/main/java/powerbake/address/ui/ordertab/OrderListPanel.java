@@ -1,16 +1,22 @@
 package powerbake.address.ui.ordertab;
 
+import java.util.List;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
+import javafx.beans.Observable;
+import javafx.beans.binding.Bindings;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.Label;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import powerbake.address.commons.core.LogsCenter;
 import powerbake.address.model.order.Order;
+import powerbake.address.model.order.OrderStatus;
 import powerbake.address.ui.UiPart;
 import powerbake.address.ui.pastrytab.PastryListPanel;
 
@@ -20,19 +26,26 @@ import powerbake.address.ui.pastrytab.PastryListPanel;
 public class OrderListPanel extends UiPart<Region> {
     private static final String FXML = "OrderListPanel.fxml";
     private static final String CSS_BORDER = "-fx-border-width: 1px 1px 1px 1px;";
+    private static final List<OrderStatus> OPEN_STATUSES =
+            List.of(OrderStatus.PENDING, OrderStatus.PROCESSING, OrderStatus.READY);
     private final Logger logger = LogsCenter.getLogger(PastryListPanel.class);
 
+    @FXML
+    private Label orderStatusCounts;
     @FXML
     private ListView<Order> orderListView;
 
     private final ObjectProperty<Order> selectedOrderProperty = new SimpleObjectProperty<>();
 
     /**
-     * Creates a {@code OrderListPanel} with the given {@code ObservableList}.
+     * Creates a {@code OrderListPanel} with the given {@code ObservableList}, which shows how many orders are still
+     * open using the lists of orders of each status given by {@code ordersByStatus}.
      */
-    public OrderListPanel(ObservableList<Order> orderList) {
+    public OrderListPanel(ObservableList<Order> orderList,
+            Function<OrderStatus, ObservableList<Order>> ordersByStatus) {
         super(FXML);
         orderListView.setItems(orderList);
+        bindOrderStatusCounts(ordersByStatus);
         orderListView.setCellFactory(listView -> new OrderListViewCell());
 
         // Bind selected order to property
@@ -43,6 +56,22 @@ public class OrderListPanel extends UiPart<Region> {
         });
     }
 
+    /**
+     * Binds the counts of open orders to the sizes of the lists of orders of each status, so that they are
+     * kept up to date without filtering the orders.
+     */
+    private void bindOrderStatusCounts(Function<OrderStatus, ObservableList<Order>> ordersByStatus) {
+        List<ObservableList<Order>> openOrders = OPEN_STATUSES.stream().map(ordersByStatus).toList();
+        orderStatusCounts.textProperty().bind(Bindings.createStringBinding(() -> {
+            StringBuilder counts = new StringBuilder();
+            for (int i = 0; i < OPEN_STATUSES.size(); i++) {
+                counts.append(i == 0 ? "" : "  |  ")
+                        .append(OPEN_STATUSES.get(i)).append(": ").append(openOrders.get(i).size());
+            }
+            return counts.toString();
+        }, openOrders.toArray(new Observable[0])));
+    }
+
     public ObjectProperty<Order> getSelectedOrderProperty() {
         return selectedOrderProperty;
     }
@@ -0,0 +1,99 @@
+package powerbake.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static powerbake.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class BatchedObservableListTest {
+
+    private final BatchedObservableList<String> list = new BatchedObservableList<>();
+    private final List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        list.setAll(List.of("a", "b", "c"));
+        list.addListener((ListChangeListener<String>) changes::add);
+    }
+
+    @Test
+    public void changes_outsideBatch_publishedSeparately() {
+        list.add("d");
+        list.set(0, "A");
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    public void commitBatch_changesMadeInBatch_publishedAsSingleChange() {
+        list.beginBatch();
+        assertTrue(list.isInBatch());
+        list.set(0, "A");
+        list.add("d");
+        list.remove("b");
+        // the changes take effect immediately, but are not yet published
+        assertEquals(List.of("A", "c", "d"), list);
+        assertTrue(changes.isEmpty());
+
+        list.commitBatch();
+        assertFalse(list.isInBatch());
+        assertEquals(1, changes.size());
+        assertEquals(List.of("A", "c", "d"), changes.get(0).getList());
+    }
+
+    @Test
+    public void commitBatch_noChanges_nothingPublished() {
+        list.beginBatch();
+        list.commitBatch();
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void rollbackBatch_changesMadeInBatch_undone() {
+        list.beginBatch();
+        list.set(1, "B");
+        list.add(0, "z");
+        list.remove("c");
+        list.setAll(List.of("x", "y"));
+        list.add("w");
+        list.rollbackBatch();
+
+        assertFalse(list.isInBatch());
+        assertEquals(List.of("a", "b", "c"), list);
+        assertTrue(changes.size() <= 1);
+
+        // the list can be batched again
+        list.beginBatch();
+        list.add("d");
+        list.commitBatch();
+        assertEquals(List.of("a", "b", "c", "d"), list);
+    }
+
+    @Test
+    public void setAll_replacesContents() {
+        list.setAll(List.of("x"));
+        assertEquals(List.of("x"), list);
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void beginBatch_batchInProgress_throwsIllegalStateException() {
+        list.beginBatch();
+        assertThrows(IllegalStateException.class, BatchedObservableList.MESSAGE_BATCH_IN_PROGRESS, list::beginBatch);
+    }
+
+    @Test
+    public void commitAndRollbackBatch_noBatchInProgress_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, BatchedObservableList.MESSAGE_NO_BATCH_IN_PROGRESS,
+                list::commitBatch);
+        assertThrows(IllegalStateException.class, BatchedObservableList.MESSAGE_NO_BATCH_IN_PROGRESS,
+                list::rollbackBatch);
+    }
+}
@@ -0,0 +1,83 @@
+package powerbake.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static powerbake.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void copyOf_list_sameElements() {
+        assertTrue(PersistentList.copyOf(List.of()).isEmpty());
+        assertEquals(List.of("a", "b", "c"), PersistentList.copyOf(List.of("a", "b", "c")));
+
+        PersistentList<String> list = PersistentList.copyOf(List.of("a"));
+        assertSame(list, PersistentList.copyOf(list));
+    }
+
+    @Test
+    public void changes_copiesChanged_originalsUnchanged() {
+        PersistentList<String> original = PersistentList.copyOf(List.of("a", "b", "c"));
+
+        assertEquals(List.of("a", "B", "c"), original.with(1, "B"));
+        assertEquals(List.of("z", "a", "b", "c"), original.plus(0, "z"));
+        assertEquals(List.of("a", "b", "c", "d"), original.plus("d"));
+        assertEquals(List.of("a", "c"), original.minus(1));
+        assertTrue(original.minus(0).minus(0).minus(0).isEmpty());
+
+        assertEquals(List.of("a", "b", "c"), original);
+    }
+
+    @Test
+    public void changes_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(-1, "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(2, "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.empty().minus(0));
+    }
+
+    @Test
+    public void asList_unsupportedChanges_throwUnsupportedOperationException() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a"));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, "b"));
+        assertThrows(UnsupportedOperationException.class, () -> list.iterator().remove());
+    }
+
+    @Test
+    public void changes_randomChanges_matchArrayList() {
+        Random random = new Random(4);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(4);
+            if (expected.isEmpty() || operation < 2) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.plus(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                actual = actual.with(index, -i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.minus(index);
+            }
+        }
+
+        assertEquals(expected, actual);
+        assertEquals(expected, new ArrayList<>(actual));
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package powerbake.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static powerbake.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -170,6 +174,51 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for compileKeywords --------------------------------------
+
+    @Test
+    public void compileKeywords_invalidKeywords_throwsException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.compileKeywords(null));
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.compileKeywords(Arrays.asList("aaa", "  ")));
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.compileKeywords(List.of("aaa BBB")));
+    }
+
+    @Test
+    public void compileKeywords_validInputs_sameResultAsContainsWordIgnoreCase() {
+        List<String> sentences =
+                Arrays.asList("", "    ", "aaa bbb ccc", "aaa bBb ccc@1", "  AAA   bBb   ccc  ", "Aaa");
+        List<String> keywords = Arrays.asList("abc", "bb", "bbbb", "Aaa", "CCc@1", "  ccc  ", "b");
+        for (String sentence : sentences) {
+            for (String keyword : keywords) {
+                assertEquals(StringUtil.containsWordIgnoreCase(sentence, keyword),
+                        StringUtil.compileKeywords(List.of(keyword)).matchesAny(sentence));
+            }
+        }
+
+        // any of the keywords
+        assertTrue(StringUtil.compileKeywords(Arrays.asList("zzz", "BBB")).matchesAny("aaa bbb"));
+        assertFalse(StringUtil.compileKeywords(Collections.emptyList()).matchesAny("aaa bbb"));
+    }
+
+    /**
+     * Checks a reused matcher against many names with the previous approach of
+     * {@link StringUtil#containsWordIgnoreCase(String, String)}, which split the name and lower-cased every word.
+     */
+    @Test
+    public void keywordMatcher_reusedAcrossNames_sameAsSplitting() {
+        List<String> keywords = Arrays.asList("alice", "BAKER", "number9");
+        StringUtil.KeywordMatcher matcher = StringUtil.compileKeywords(keywords);
+        for (int i = 0; i < 1_000; i++) {
+            String name = "Client Number " + i + " Of Bakery";
+            assertEquals(splitAndLowerCaseMatch(name, keywords), matcher.matchesAny(name));
+        }
+    }
+
+    private static boolean splitAndLowerCaseMatch(String name, List<String> keywords) {
+        return keywords.stream().anyMatch(keyword -> Arrays.stream(name.split("\\s+"))
+                .anyMatch(word -> word.toLowerCase().contains(keyword.toLowerCase())));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
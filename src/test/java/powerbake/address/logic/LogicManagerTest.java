@@ -18,6 +18,8 @@ import org.junit.jupiter.api.io.TempDir;
 
 import powerbake.address.logic.commands.AddCommand;
 import powerbake.address.logic.commands.CommandResult;
+import powerbake.address.logic.commands.RedoCommand;
+import powerbake.address.logic.commands.UndoCommand;
 import powerbake.address.logic.commands.ViewCommand;
 import powerbake.address.logic.commands.exceptions.CommandException;
 import powerbake.address.logic.parser.exceptions.ParseException;
@@ -82,6 +84,18 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_undoAndRedo_restoresAddressBook() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        ModelManager expectedModel = new ModelManager();
+        assertCommandSuccess(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandException(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_FAILURE);
+
+        expectedModel.addPerson(new PersonBuilder(AMY).withTags().build());
+        assertCommandSuccess(RedoCommand.COMMAND_WORD, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandException(RedoCommand.COMMAND_WORD, RedoCommand.MESSAGE_FAILURE);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
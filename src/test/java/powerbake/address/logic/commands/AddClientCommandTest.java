@@ -8,8 +8,14 @@ import static powerbake.address.testutil.Assert.assertThrows;
 import static powerbake.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -22,9 +28,14 @@ import powerbake.address.model.AddressBook;
 import powerbake.address.model.Model;
 import powerbake.address.model.ReadOnlyAddressBook;
 import powerbake.address.model.ReadOnlyUserPrefs;
+import powerbake.address.model.SalesTotals;
 import powerbake.address.model.order.Order;
+import powerbake.address.model.order.OrderId;
+import powerbake.address.model.order.OrderQuery;
+import powerbake.address.model.order.OrderStatus;
 import powerbake.address.model.pastry.Pastry;
 import powerbake.address.model.person.Person;
+import powerbake.address.model.person.Phone;
 import powerbake.address.testutil.PersonBuilder;
 
 public class AddClientCommandTest {
@@ -220,6 +231,146 @@ public class AddClientCommandTest {
         public void updateFilteredOrderList(Predicate<Order> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public Optional<Order> getOrderById(OrderId orderId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Person> findPersonByPhone(Phone phone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Pastry> findPastryByName(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Order> getOrdersOfCustomer(Person customer) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Order> findArchivedOrders(OrderQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> findPersonsByName(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Pastry> findPastriesByName(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Order> findOrdersByCustomerName(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsBySimilarName(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Pastry> findPastriesBySimilarName(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Order> findOrders(OrderQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<Order> getOrderListByStatus(OrderStatus status) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int countOrdersByStatus(OrderStatus status) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Order> getOrdersPlacedBetween(LocalDateTime start, LocalDateTime end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SalesTotals getSalesTotals() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SalesTotals getSalesTotalsOn(LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SalesTotals getSalesTotalsOf(Pastry pastry) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SalesTotals getSalesTotalsOf(Person customer) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<String, Integer> getProductionPlan() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getOutstandingQuantityOf(Pastry pastry) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -28,6 +28,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import powerbake.address.commons.core.index.Index;
 import powerbake.address.logic.Messages;
 import powerbake.address.logic.commands.EditCommand.EditPastryDescriptor;
@@ -327,6 +328,42 @@ public class EditCommandTest {
         assertTrue(VALID_NAME_BOB.equals(updatedOrder.getCustomer().getName().toString()));
     }
 
+    @Test
+    public void execute_editPersonWithOrdersHiddenByFilter_updatesAllReferencingOrders() {
+        Person personToEdit = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        model.updateFilteredOrderList(order -> false);
+
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withName(VALID_NAME_BOB).build();
+        EditCommand editCommand = new EditCommand("client", INDEX_FIRST_PERSON, descriptor, true);
+        Person editedPerson = new PersonBuilder(personToEdit).withName(VALID_NAME_BOB).build();
+        String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_CLIENT_SUCCESS, Messages.format(editedPerson));
+        CommandResult expectedResult = new CommandResult(expectedMessage, false, false, true, false, false);
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setPerson(personToEdit, editedPerson);
+        assertCommandSuccess(editCommand, model, expectedResult, expectedModel);
+
+        assertTrue(model.getOrdersOfCustomer(personToEdit).stream()
+                .allMatch(order -> order.getCustomer().equals(editedPerson)));
+        assertFalse(model.getOrdersOfCustomer(personToEdit).isEmpty());
+    }
+
+    @Test
+    public void execute_editPersonWithManyOrders_publishesSingleOrderListChange() throws Exception {
+        Person personToEdit = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        assertTrue(model.getOrdersOfCustomer(personToEdit).size() > 1);
+        List<ListChangeListener.Change<? extends Order>> orderListChanges = new ArrayList<>();
+        model.getAddressBook().getOrderList().addListener((ListChangeListener<Order>) orderListChanges::add);
+
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withName(VALID_NAME_BOB).build();
+        new EditCommand("client", INDEX_FIRST_PERSON, descriptor, true).execute(model);
+
+        assertEquals(1, orderListChanges.size());
+        Person editedPerson = new PersonBuilder(personToEdit).withName(VALID_NAME_BOB).build();
+        assertTrue(model.getOrdersOfCustomer(editedPerson).stream()
+                .allMatch(order -> order.getCustomer().equals(editedPerson)));
+    }
+
     @Test
     public void equals() {
         final EditCommand standardCommand = new EditCommand(PREFIX_CLIENT.toString().trim(),
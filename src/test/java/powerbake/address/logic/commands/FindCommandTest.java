@@ -3,6 +3,8 @@ package powerbake.address.logic.commands;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static powerbake.address.logic.Messages.MESSAGE_ARCHIVED_ORDERS_LISTED_OVERVIEW;
+import static powerbake.address.logic.Messages.MESSAGE_CLOSEST_MATCHES;
 import static powerbake.address.logic.Messages.MESSAGE_ORDERS_LISTED_OVERVIEW;
 import static powerbake.address.logic.Messages.MESSAGE_PASTRIES_LISTED_OVERVIEW;
 import static powerbake.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
@@ -11,18 +13,32 @@ import static powerbake.address.testutil.TypicalAddressBook.getTypicalAddressBoo
 import static powerbake.address.testutil.TypicalOrders.ORDER_ONE;
 import static powerbake.address.testutil.TypicalOrders.ORDER_THREE;
 import static powerbake.address.testutil.TypicalOrders.ORDER_TWO;
+import static powerbake.address.testutil.TypicalPastries.BAGEL;
 import static powerbake.address.testutil.TypicalPastries.CROISSANT;
+import static powerbake.address.testutil.TypicalPersons.ALICE;
 import static powerbake.address.testutil.TypicalPersons.CARL;
 import static powerbake.address.testutil.TypicalPersons.ELLE;
 import static powerbake.address.testutil.TypicalPersons.FIONA;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import powerbake.address.logic.Messages;
 import powerbake.address.model.Model;
 import powerbake.address.model.ModelManager;
 import powerbake.address.model.UserPrefs;
+import powerbake.address.model.order.Order;
+import powerbake.address.model.order.OrderArchive;
+import powerbake.address.model.order.OrderQuery;
+import powerbake.address.model.order.OrderStatus;
+import powerbake.address.model.pastry.Pastry;
+import powerbake.address.model.person.Person;
+import powerbake.address.testutil.OrderBuilder;
+import powerbake.address.testutil.PastryBuilder;
+import powerbake.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -60,6 +76,9 @@ public class FindCommandTest {
         // different -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
         assertFalse(findFirstCommand.equals(findThirdCommand));
+
+        // different fuzziness -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(commandWord1, firstKeywords, true)));
     }
 
     @Test
@@ -98,6 +117,106 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(ORDER_ONE, ORDER_TWO, ORDER_THREE), model.getFilteredOrderList());
     }
 
+    @Test
+    public void execute_orderQuery_matchingOrdersFound() {
+        OrderQuery query = new OrderQuery().withPastryKeywords(List.of("croissant")).withMaxTotalCents(1200)
+                .withCustomerKeywords(List.of("alice", "carl"));
+        expectedModel.updateFilteredOrderList(order -> order.equals(ORDER_ONE) || order.equals(ORDER_TWO));
+        assertCommandSuccess(new FindCommand(query), model,
+                String.format(MESSAGE_ORDERS_LISTED_OVERVIEW, 2), expectedModel);
+        assertEquals(Arrays.asList(ORDER_ONE, ORDER_TWO), model.getFilteredOrderList());
+
+        expectedModel.updateFilteredOrderList(order -> order.equals(ORDER_THREE));
+        assertCommandSuccess(new FindCommand(new OrderQuery().withStatus(OrderStatus.DELIVERED)), model,
+                String.format(MESSAGE_ORDERS_LISTED_OVERVIEW, 1), expectedModel);
+    }
+
+    @Test
+    public void execute_fuzzyKeywords_closestMatchesFound() {
+        String[] keywords = {"crossant", "bagle"};
+        FindCommand command = new FindCommand("pastry", keywords, true);
+        expectedModel.updateFilteredPastryList(pastry -> pastry.equals(CROISSANT) || pastry.equals(BAGEL));
+        String expectedMessage = String.format(MESSAGE_PASTRIES_LISTED_OVERVIEW, 2) + "\n"
+                + String.format(MESSAGE_CLOSEST_MATCHES, "Croissant, Bagel");
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CROISSANT, BAGEL), model.getFilteredPastryList());
+    }
+
+    @Test
+    public void execute_itemsEditedAfterSearch_shownIfMatching() {
+        new FindCommand("client", new String[] {"alice"}).execute(model);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        model.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(editedAlice), model.getFilteredPersonList());
+
+        new FindCommand("order", new String[] {"alice"}).execute(model);
+        Order editedOrder = new OrderBuilder(ORDER_ONE).withCustomer(editedAlice).build();
+        int shownOrderCount = model.getFilteredOrderList().size();
+        model.setOrder(ORDER_ONE, editedOrder);
+        assertEquals(shownOrderCount, model.getFilteredOrderList().size());
+        assertTrue(model.getFilteredOrderList().contains(editedOrder));
+        model.setOrder(editedOrder, new OrderBuilder(ORDER_ONE).withCustomer(CARL).build());
+        assertFalse(model.getFilteredOrderList().contains(ORDER_ONE));
+
+        new FindCommand("pastry", new String[] {"crossant"}, true).execute(model);
+        Pastry editedCroissant = new PastryBuilder(CROISSANT).withPrice("9.00").build();
+        model.setPastry(CROISSANT, editedCroissant);
+        assertEquals(List.of(editedCroissant), model.getFilteredPastryList());
+    }
+
+    @Test
+    public void execute_archivedOrdersMatch_archivedOrdersListed() {
+        Order archivedOrder = new OrderBuilder().withCustomer(CARL).withStatus(OrderStatus.DELIVERED).build();
+        OrderArchive orderArchive = new OrderArchive() {
+            @Override
+            public int size() {
+                return 1;
+            }
+
+            @Override
+            public List<Order> findOrders(OrderQuery query) {
+                return query.test(archivedOrder) ? List.of(archivedOrder) : List.of();
+            }
+        };
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), orderArchive);
+        String[] keywords = {"Carl"};
+        expectedModel.updateFilteredOrderList(
+                new powerbake.address.model.order.NameContainsKeywordsPredicate(Arrays.asList(keywords)));
+
+        String expectedMessage = String.format(MESSAGE_ORDERS_LISTED_OVERVIEW, 1) + "\n"
+                + String.format(MESSAGE_ARCHIVED_ORDERS_LISTED_OVERVIEW, 1) + "\n"
+                + archivedOrder.getOrderDate().toLocalDate() + ": " + Messages.format(archivedOrder);
+        assertCommandSuccess(new FindCommand("order", keywords), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ORDER_TWO), model.getFilteredOrderList());
+    }
+
+    @Test
+    public void execute_manyArchivedOrdersMatch_firstArchivedOrdersListed() {
+        List<Order> archivedOrders = new ArrayList<>();
+        for (int i = 0; i < FindCommand.MAX_ARCHIVED_ORDERS_SHOWN + 2; i++) {
+            archivedOrders.add(new OrderBuilder().withCustomer(CARL).withStatus(OrderStatus.DELIVERED).build());
+        }
+        OrderArchive orderArchive = new OrderArchive() {
+            @Override
+            public int size() {
+                return archivedOrders.size();
+            }
+
+            @Override
+            public List<Order> findOrders(OrderQuery query) {
+                return archivedOrders;
+            }
+        };
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), orderArchive);
+
+        String feedback = new FindCommand("order", new String[] {"Carl"}).execute(model).getFeedbackToUser();
+        String archivedOrderLine = archivedOrders.get(0).getOrderDate().toLocalDate() + ": "
+                + Messages.format(archivedOrders.get(0));
+        assertEquals(FindCommand.MAX_ARCHIVED_ORDERS_SHOWN,
+                Arrays.stream(feedback.split("\n")).filter(archivedOrderLine::equals).count());
+        assertTrue(feedback.endsWith(String.format(Messages.MESSAGE_MORE_ARCHIVED_ORDERS, 2)));
+    }
+
     @Test
     public void toStringMethod() {
         String commandWord = "client";
@@ -105,7 +224,8 @@ public class FindCommandTest {
         FindCommand findCommand = new FindCommand(commandWord, keywords);
         String expected = FindCommand.class.getCanonicalName()
                 + "{commandWord=" + commandWord
-                + ", nameKeywords=" + Arrays.toString(keywords) + "}";
+                + ", nameKeywords=" + Arrays.toString(keywords)
+                + ", isFuzzy=false}";
         assertEquals(expected, findCommand.toString());
     }
 }
@@ -0,0 +1,33 @@
+package powerbake.address.logic.commands;
+
+import static powerbake.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static powerbake.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import powerbake.address.model.AddressBook;
+import powerbake.address.model.Model;
+import powerbake.address.model.ModelManager;
+import powerbake.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code PlanCommand}.
+ */
+public class PlanCommandTest {
+
+    @Test
+    public void execute_outstandingOrders_listsPastriesMostNeededFirst() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        // equal quantities are ordered by pastry name
+        String expectedMessage = PlanCommand.MESSAGE_SUCCESS + "\nBagel: 3\nCroissant: 3";
+        assertCommandSuccess(new PlanCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noOrders_nothingToBake() {
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(new AddressBook(), new UserPrefs());
+        assertCommandSuccess(new PlanCommand(), model, PlanCommand.MESSAGE_NOTHING_TO_BAKE, expectedModel);
+    }
+}
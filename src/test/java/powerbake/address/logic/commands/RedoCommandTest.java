@@ -0,0 +1,48 @@
+package powerbake.address.logic.commands;
+
+import static powerbake.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static powerbake.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static powerbake.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static powerbake.address.testutil.TypicalPersons.HOON;
+
+import org.junit.jupiter.api.Test;
+
+import powerbake.address.model.Model;
+import powerbake.address.model.ModelManager;
+import powerbake.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code RedoCommand}.
+ */
+public class RedoCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_nothingUndone_throwsCommandException() {
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_undoneChange_redone() {
+        model.addPerson(HOON);
+        model.commitAddressBook();
+        model.undoAddressBook();
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPerson(HOON);
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_changeAfterUndo_throwsCommandException() {
+        model.addPerson(HOON);
+        model.commitAddressBook();
+        model.undoAddressBook();
+        model.deletePerson(model.getFilteredPersonList().get(0));
+        model.commitAddressBook();
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+}
@@ -0,0 +1,85 @@
+package powerbake.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static powerbake.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static powerbake.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static powerbake.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static powerbake.address.testutil.TypicalIndexes.INDEX_FIRST_PASTRY;
+import static powerbake.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static powerbake.address.testutil.TypicalOrders.ORDER_ONE;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import powerbake.address.commons.core.index.Index;
+import powerbake.address.logic.Messages;
+import powerbake.address.model.Model;
+import powerbake.address.model.ModelManager;
+import powerbake.address.model.SalesTotals;
+import powerbake.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ReportCommand}.
+ */
+public class ReportCommandTest {
+
+    private static final LocalDate ORDER_DATE = ORDER_ONE.getOrderDate().toLocalDate();
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noArguments_reportsAllOrdersAndToday() {
+        LocalDate today = LocalDate.now();
+        String expectedMessage = "All orders: 3 order(s), 9 item(s), $34.50 revenue\n"
+                + ReportCommand.formatSales(String.format(ReportCommand.MESSAGE_ORDERS_ON, today),
+                        model.getSalesTotalsOn(today));
+        assertCommandSuccess(new ReportCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_date_reportsOrdersOnDate() {
+        assertCommandSuccess(new ReportCommand(ORDER_DATE), model,
+                "Orders on " + ORDER_DATE + ": 3 order(s), 9 item(s), $34.50 revenue", expectedModel);
+        assertCommandSuccess(new ReportCommand(ORDER_DATE.minusDays(1)), model,
+                ReportCommand.formatSales("Orders on " + ORDER_DATE.minusDays(1), SalesTotals.NONE), expectedModel);
+    }
+
+    @Test
+    public void execute_clientAndPastry_reportsTheirSales() {
+        assertCommandSuccess(new ReportCommand("client", INDEX_FIRST_PERSON), model,
+                "Orders by Alice Pauline: 2 order(s), 5 item(s), $22.50 revenue", expectedModel);
+        assertCommandSuccess(new ReportCommand("pastry", INDEX_FIRST_PASTRY), model,
+                "Croissant: 3 order(s), 6 item(s), $27.00 revenue", expectedModel);
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPastryList().size() + 1);
+        assertCommandFailure(new ReportCommand("pastry", outOfBoundIndex), model,
+                String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, Messages.MESSAGE_INVALID_INDEX));
+    }
+
+    @Test
+    public void equals() {
+        ReportCommand reportPastryCommand = new ReportCommand("pastry", INDEX_FIRST_PASTRY);
+
+        // same values -> returns true
+        assertTrue(reportPastryCommand.equals(new ReportCommand("PASTRY", INDEX_FIRST_PASTRY)));
+        assertTrue(new ReportCommand().equals(new ReportCommand()));
+        assertTrue(new ReportCommand(ORDER_DATE).equals(new ReportCommand(ORDER_DATE)));
+
+        // same object -> returns true
+        assertTrue(reportPastryCommand.equals(reportPastryCommand));
+
+        // null -> returns false
+        assertFalse(reportPastryCommand.equals(null));
+
+        // different values -> returns false
+        assertFalse(reportPastryCommand.equals(new ReportCommand("client", INDEX_FIRST_PASTRY)));
+        assertFalse(new ReportCommand().equals(new ReportCommand(ORDER_DATE)));
+        assertFalse(new ReportCommand(ORDER_DATE).equals(new ReportCommand(ORDER_DATE.plusDays(1))));
+    }
+}
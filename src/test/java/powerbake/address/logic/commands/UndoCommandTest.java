@@ -0,0 +1,48 @@
+package powerbake.address.logic.commands;
+
+import static powerbake.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static powerbake.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static powerbake.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static powerbake.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static powerbake.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static powerbake.address.testutil.TypicalPersons.HOON;
+
+import org.junit.jupiter.api.Test;
+
+import powerbake.address.model.Model;
+import powerbake.address.model.ModelManager;
+import powerbake.address.model.UserPrefs;
+import powerbake.address.model.pastry.Pastry;
+import powerbake.address.testutil.PastryBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code UndoCommand}.
+ */
+public class UndoCommandTest {
+
+    private static final Pastry MUFFIN = new PastryBuilder().withName("Muffin").build();
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noChanges_throwsCommandException() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_committedChanges_undoneOneAtATime() {
+        model.addPerson(HOON);
+        model.commitAddressBook();
+        model.addPastry(MUFFIN);
+        model.commitAddressBook();
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPerson(HOON);
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        expectedModel.deletePerson(HOON);
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+}
@@ -23,6 +23,10 @@ import powerbake.address.logic.commands.EditCommand.EditPersonDescriptor;
 import powerbake.address.logic.commands.ExitCommand;
 import powerbake.address.logic.commands.FindCommand;
 import powerbake.address.logic.commands.HelpCommand;
+import powerbake.address.logic.commands.PlanCommand;
+import powerbake.address.logic.commands.RedoCommand;
+import powerbake.address.logic.commands.ReportCommand;
+import powerbake.address.logic.commands.UndoCommand;
 import powerbake.address.logic.commands.ViewCommand;
 import powerbake.address.logic.parser.exceptions.ParseException;
 import powerbake.address.model.person.Person;
@@ -100,6 +104,25 @@ public class AddressBookParserTest {
         assertEquals(new ViewCommand("pastry"), command);
     }
 
+    @Test
+    public void parseCommand_plan() throws Exception {
+        assertTrue(parser.parseCommand(PlanCommand.COMMAND_WORD) instanceof PlanCommand);
+        assertTrue(parser.parseCommand(PlanCommand.COMMAND_WORD + " 3") instanceof PlanCommand);
+    }
+
+    @Test
+    public void parseCommand_undoAndRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
+    @Test
+    public void parseCommand_report() throws Exception {
+        assertEquals(new ReportCommand(), parser.parseCommand(ReportCommand.COMMAND_WORD));
+        assertEquals(new ReportCommand("client", INDEX_FIRST_PERSON),
+                parser.parseCommand(ReportCommand.COMMAND_WORD + " client " + INDEX_FIRST_PERSON.getOneBased()));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -4,9 +4,15 @@ import static powerbake.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static powerbake.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static powerbake.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import powerbake.address.logic.Messages;
 import powerbake.address.logic.commands.FindCommand;
+import powerbake.address.model.order.OrderQuery;
+import powerbake.address.model.order.OrderStatus;
 
 public class FindCommandParserTest {
 
@@ -67,4 +73,33 @@ public class FindCommandParserTest {
         // multiple whitespaces between keywords
         assertParseSuccess(parser, "order \n Alice \n \t Bob  \t", expectedFindCommand);
     }
+
+    @Test
+    public void parse_orderQueryArgs_returnsFindCommand() {
+        OrderQuery expectedQuery = new OrderQuery().withStatus(OrderStatus.PENDING)
+                .withFromDate(LocalDate.parse("2026-10-01")).withPastryKeywords(List.of("croissant"));
+        assertParseSuccess(parser, "order status/PENDING from/2026-10-01 pastry/croissant",
+                new FindCommand(expectedQuery));
+
+        // invalid condition
+        assertParseFailure(parser, "order status/done", Messages.MESSAGE_CONSTRAINTS_ORDERSTATUS);
+    }
+
+    @Test
+    public void parse_validFuzzyArgs_returnsFindCommand() {
+        String[] nameKeywords = {"Alise", "Bob"};
+        assertParseSuccess(parser, "fuzzy client Alise Bob", new FindCommand("client", nameKeywords, true));
+        assertParseSuccess(parser, " FUZZY \n pastry \t Alise Bob", new FindCommand("pastry", nameKeywords, true));
+    }
+
+    @Test
+    public void parse_invalidFuzzyArgs_throwsParseException() {
+        // orders cannot be found fuzzily
+        assertParseFailure(parser, "fuzzy order Alice",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+
+        // missing keywords
+        assertParseFailure(parser, "fuzzy client",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
 }
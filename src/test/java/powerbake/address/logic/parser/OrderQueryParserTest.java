@@ -0,0 +1,74 @@
+package powerbake.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static powerbake.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static powerbake.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import powerbake.address.logic.Messages;
+import powerbake.address.logic.commands.FindCommand;
+import powerbake.address.logic.parser.exceptions.ParseException;
+import powerbake.address.model.order.OrderQuery;
+import powerbake.address.model.order.OrderStatus;
+import powerbake.address.model.pastry.Price;
+
+public class OrderQueryParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+
+    private final OrderQueryParser parser = new OrderQueryParser();
+
+    @Test
+    public void parse_customerKeywordsOnly_success() throws Exception {
+        assertEquals(new OrderQuery().withCustomerKeywords(List.of("Alice", "Bob")), parser.parse(" Alice \t Bob "));
+    }
+
+    @Test
+    public void parse_allConditions_success() throws Exception {
+        OrderQuery expectedQuery = new OrderQuery()
+                .withCustomerKeywords(List.of("alice", "carl"))
+                .withStatus(OrderStatus.PENDING)
+                .withFromDate(LocalDate.parse("2026-10-01"))
+                .withToDate(LocalDate.parse("2026-10-31"))
+                .withPastryKeywords(List.of("croissant", "bagel"))
+                .withMinTotalCents(1000)
+                .withMaxTotalCents(2550);
+        assertEquals(expectedQuery, parser.parse("alice status/pending from/2026-10-01 to/2026-10-31 "
+                + "pastry/croissant bagel min/10 max/25.50 customer/carl"));
+    }
+
+    @Test
+    public void parse_conditionsInAnyOrder_success() throws Exception {
+        OrderQuery expectedQuery = new OrderQuery().withStatus(OrderStatus.PENDING)
+                .withFromDate(LocalDate.parse("2026-10-01")).withPastryKeywords(List.of("croissant"));
+        assertEquals(expectedQuery, parser.parse("status/PENDING from/2026-10-01 pastry/croissant"));
+        assertEquals(expectedQuery, parser.parse("pastry/croissant status/PENDING from/2026-10-01"));
+    }
+
+    @Test
+    public void parse_invalidConditions_throwsParseException() {
+        // no conditions
+        assertThrows(ParseException.class, MESSAGE_INVALID_FORMAT, () -> parser.parse("  "));
+
+        // empty keywords
+        assertThrows(ParseException.class, MESSAGE_INVALID_FORMAT, () -> parser.parse("pastry/ status/READY"));
+
+        // invalid values
+        assertThrows(ParseException.class, Messages.MESSAGE_CONSTRAINTS_ORDERSTATUS, () -> parser.parse("status/done"));
+        assertThrows(ParseException.class, Messages.MESSAGE_INVALID_DATE, () -> parser.parse("from/01-10-2026"));
+        assertThrows(ParseException.class, Price.MESSAGE_CONSTRAINTS, () -> parser.parse("min/-5"));
+
+        // dates out of order
+        assertThrows(ParseException.class, OrderQueryParser.MESSAGE_INVALID_DATE_RANGE, () -> parser.parse(
+                "from/2026-10-02 to/2026-10-01"));
+
+        // repeated condition
+        String duplicateMessage = Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_QUERY_STATUS);
+        assertThrows(ParseException.class, duplicateMessage, () -> parser.parse("status/READY status/PENDING"));
+    }
+}
@@ -0,0 +1,37 @@
+package powerbake.address.logic.parser;
+
+import static powerbake.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static powerbake.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static powerbake.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static powerbake.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import powerbake.address.logic.Messages;
+import powerbake.address.logic.commands.ReportCommand;
+
+public class ReportCommandParserTest {
+
+    private ReportCommandParser parser = new ReportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsReportCommand() {
+        assertParseSuccess(parser, "  ", new ReportCommand());
+        assertParseSuccess(parser, " 2026-10-01 ", new ReportCommand(LocalDate.parse("2026-10-01")));
+        assertParseSuccess(parser, "client 1", new ReportCommand("client", INDEX_FIRST_PERSON));
+        assertParseSuccess(parser, "Pastry \t 1", new ReportCommand("pastry", INDEX_FIRST_PERSON));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReportCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "client", invalidFormat);
+        assertParseFailure(parser, "order 1", invalidFormat);
+        assertParseFailure(parser, "pastry 1 2", invalidFormat);
+        assertParseFailure(parser, "01/10/2026", Messages.MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, "client a", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                Messages.MESSAGE_INVALID_INDEX) + "\n" + ReportCommand.MESSAGE_USAGE);
+    }
+}
@@ -0,0 +1,70 @@
+package powerbake.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static powerbake.address.testutil.Assert.assertThrows;
+import static powerbake.address.testutil.TypicalPersons.ALICE;
+import static powerbake.address.testutil.TypicalPersons.BENSON;
+import static powerbake.address.testutil.TypicalPersons.CARL;
+
+import org.junit.jupiter.api.Test;
+
+public class AddressBookHistoryTest {
+
+    private final AddressBook addressBook = new AddressBook();
+
+    @Test
+    public void constructor_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> new AddressBookHistory(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new AddressBookHistory(addressBook.snapshot(), 0));
+    }
+
+    @Test
+    public void commit_unchangedAddressBook_notCommitted() {
+        AddressBookHistory history = new AddressBookHistory(addressBook.snapshot(), 5);
+        assertFalse(history.commit(addressBook.snapshot()));
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void undoAndRedo_committedStates_restored() {
+        AddressBookSnapshot emptyState = addressBook.snapshot();
+        AddressBookHistory history = new AddressBookHistory(emptyState, 5);
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot aliceState = addressBook.snapshot();
+        assertTrue(history.commit(aliceState));
+        addressBook.addPerson(BENSON);
+        assertTrue(history.commit(addressBook.snapshot()));
+
+        history.undo();
+        assertSame(emptyState, history.undo());
+        assertFalse(history.canUndo());
+        assertSame(aliceState, history.redo());
+        assertTrue(history.canRedo());
+
+        // committing a new state discards the undone states
+        addressBook.restore(aliceState);
+        addressBook.addPerson(CARL);
+        assertTrue(history.commit(addressBook.snapshot()));
+        assertFalse(history.canRedo());
+        assertThrows(IllegalStateException.class, AddressBookHistory.MESSAGE_NOTHING_TO_REDO, history::redo);
+    }
+
+    @Test
+    public void commit_pastCapacity_oldestStatesForgotten() {
+        AddressBookHistory history = new AddressBookHistory(addressBook.snapshot(), 2);
+        addressBook.addPerson(ALICE);
+        history.commit(addressBook.snapshot());
+        addressBook.addPerson(BENSON);
+        history.commit(addressBook.snapshot());
+        addressBook.addPerson(CARL);
+        history.commit(addressBook.snapshot());
+
+        history.undo();
+        assertEquals(1, history.undo().getPersonList().size());
+        assertFalse(history.canUndo());
+        assertThrows(IllegalStateException.class, AddressBookHistory.MESSAGE_NOTHING_TO_UNDO, history::undo);
+    }
+}
@@ -200,6 +200,59 @@ public class AddressBookTest {
         assertEquals(originalAddressBook, newAddressBook);
     }
 
+    @Test
+    public void getModificationCount_changesToEachList_countedSeparately() {
+        assertEquals(0, addressBook.getModificationCount());
+
+        addressBook.addPerson(ALICE);
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        assertEquals(2, addressBook.getPersonModificationCount());
+        assertEquals(0, addressBook.getPastryModificationCount());
+
+        addressBook.addPastry(CROISSANT);
+        addressBook.removePastry(CROISSANT);
+        assertEquals(2, addressBook.getPastryModificationCount());
+        assertEquals(0, addressBook.getOrderModificationCount());
+        assertEquals(4, addressBook.getModificationCount());
+
+        // queries do not count as modifications
+        addressBook.hasPerson(ALICE);
+        addressBook.findPastryByName("Croissant");
+        assertEquals(4, addressBook.getModificationCount());
+
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(3, addressBook.getPersonModificationCount());
+        assertEquals(3, addressBook.getPastryModificationCount());
+        assertEquals(1, addressBook.getOrderModificationCount());
+    }
+
+    @Test
+    public void snapshot_laterChanges_snapshotUnchanged() {
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+        addressBook.addPastry(CROISSANT);
+        addressBook.removePerson(ALICE);
+
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+        assertTrue(snapshot.getPastryList().isEmpty());
+        assertEquals(new AddressBook(snapshot), new AddressBook(AddressBookSnapshot.of(snapshot)));
+    }
+
+    @Test
+    public void restore_snapshot_contentsRestored() {
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+        addressBook.addPastry(CROISSANT);
+        long personModificationCount = addressBook.getPersonModificationCount();
+
+        addressBook.restore(snapshot);
+        assertTrue(addressBook.hasPerson(ALICE));
+        assertFalse(addressBook.hasPastry(CROISSANT));
+        // the person list is still shared with the snapshot, so it is left untouched
+        assertEquals(personModificationCount, addressBook.getPersonModificationCount());
+        assertTrue(snapshot.hasSameListsAs(addressBook.snapshot()));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName()
@@ -236,6 +289,21 @@ public class AddressBookTest {
         public ObservableList<Order> getOrderList() {
             return orders;
         }
+
+        @Override
+        public long getPersonModificationCount() {
+            return 0;
+        }
+
+        @Override
+        public long getPastryModificationCount() {
+            return 0;
+        }
+
+        @Override
+        public long getOrderModificationCount() {
+            return 0;
+        }
     }
 
 }
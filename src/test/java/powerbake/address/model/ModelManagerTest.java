@@ -93,6 +93,39 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void commitBatch_filterUpdatedInBatch_appliedAfterChangesPublished() {
+        modelManager.updateFilteredPersonList(unused -> false);
+        modelManager.beginBatch();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        // neither the added persons nor the new filter are seen until the batch is committed
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+
+        modelManager.commitBatch();
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void rollbackBatch_changesMadeInBatch_undone() {
+        modelManager.addPerson(ALICE);
+        modelManager.beginBatch();
+        modelManager.deletePerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(unused -> false);
+        modelManager.rollbackBatch();
+
+        assertTrue(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.hasPerson(BENSON));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void beginBatch_batchInProgress_throwsIllegalStateException() {
+        modelManager.beginBatch();
+        assertThrows(IllegalStateException.class, modelManager::beginBatch);
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,81 @@
+package powerbake.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static powerbake.address.testutil.TypicalPersons.ALICE;
+import static powerbake.address.testutil.TypicalPersons.BENSON;
+import static powerbake.address.testutil.TypicalPersons.CARL;
+import static powerbake.address.testutil.TypicalPersons.DANIEL;
+import static powerbake.address.testutil.TypicalPersons.ELLE;
+import static powerbake.address.testutil.TypicalPersons.HOON;
+import static powerbake.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import powerbake.address.model.person.NameContainsKeywordsPredicate;
+import powerbake.address.model.person.Person;
+import powerbake.address.testutil.PersonBuilder;
+
+public class NameKeywordIndexTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(getTypicalPersons());
+    private final NameKeywordIndex<Person> index = new NameKeywordIndex<>(persons, person -> person.getName().fullName);
+
+    @Test
+    public void find_wholeAndPartialWords_matchesFound() {
+        assertEquals(Set.of(ALICE), Set.copyOf(index.find(List.of("alice"))));
+
+        // part of a word, in the middle of the name, ignoring case
+        assertEquals(Set.of(BENSON, DANIEL), Set.copyOf(index.find(List.of("EIE"))));
+
+        // any of the keywords
+        assertEquals(Set.of(CARL, ELLE), Set.copyOf(index.find(Arrays.asList("kurz", "Meyer"))));
+
+        // no match, or no keywords
+        assertTrue(index.find(List.of("zzz")).isEmpty());
+        assertTrue(index.find(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void find_sameResultsAsPredicate() {
+        for (String keyword : Arrays.asList("a", "er", "Mei", "ice pau", "ll", "uel", "Kunz", "x")) {
+            List<String> keywords = Arrays.asList(keyword.split("\\s+"));
+            Set<Person> expected = persons.stream().filter(new NameContainsKeywordsPredicate(keywords))
+                    .collect(Collectors.toSet());
+            assertEquals(expected, Set.copyOf(index.find(keywords)), keyword);
+        }
+    }
+
+    @Test
+    public void estimateMatchCount_atLeastNumberOfMatches() {
+        for (String keyword : Arrays.asList("a", "er", "Mei", "ice pau", "ll", "x")) {
+            List<String> keywords = Arrays.asList(keyword.split("\\s+"));
+            assertTrue(index.estimateMatchCount(keywords) >= index.find(keywords).size(), keyword);
+        }
+        assertEquals(1, index.estimateMatchCount(List.of("alice")));
+        assertEquals(0, index.estimateMatchCount(List.of("zzz")));
+    }
+
+    @Test
+    public void find_listChanged_indexUpdated() {
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Tan").build();
+        persons.set(persons.indexOf(ALICE), editedAlice);
+        persons.remove(BENSON);
+        persons.add(HOON);
+
+        assertEquals(Set.of(editedAlice), Set.copyOf(index.find(List.of("alic"))));
+        assertTrue(index.find(List.of("pauline")).isEmpty());
+        assertEquals(Set.of(DANIEL, HOON), Set.copyOf(index.find(List.of("meier"))));
+
+        persons.clear();
+        assertTrue(index.find(List.of("a")).isEmpty());
+    }
+}
@@ -0,0 +1,114 @@
+package powerbake.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static powerbake.address.testutil.Assert.assertThrows;
+import static powerbake.address.testutil.TypicalOrders.ORDER_ONE;
+import static powerbake.address.testutil.TypicalOrders.ORDER_THREE;
+import static powerbake.address.testutil.TypicalOrders.ORDER_TWO;
+import static powerbake.address.testutil.TypicalPastries.BAGEL;
+import static powerbake.address.testutil.TypicalPastries.CAKE;
+import static powerbake.address.testutil.TypicalPastries.CROISSANT;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import powerbake.address.model.order.Order;
+import powerbake.address.model.order.OrderItem;
+import powerbake.address.model.order.OrderStatus;
+import powerbake.address.model.order.UniqueOrderList;
+import powerbake.address.model.pastry.Name;
+import powerbake.address.model.pastry.Pastry;
+import powerbake.address.model.pastry.Price;
+import powerbake.address.testutil.OrderBuilder;
+
+public class ProductionPlanTest {
+
+    private final UniqueOrderList orders = new UniqueOrderList();
+
+    @Test
+    public void constructor_nullList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ProductionPlan(null));
+    }
+
+    @Test
+    public void isOutstanding() {
+        assertTrue(ProductionPlan.isOutstanding(ORDER_ONE.withStatus(OrderStatus.PENDING)));
+        assertTrue(ProductionPlan.isOutstanding(ORDER_ONE.withStatus(OrderStatus.PROCESSING)));
+        assertFalse(ProductionPlan.isOutstanding(ORDER_ONE.withStatus(OrderStatus.READY)));
+        assertFalse(ProductionPlan.isOutstanding(ORDER_ONE.withStatus(OrderStatus.DELIVERED)));
+        assertFalse(ProductionPlan.isOutstanding(ORDER_ONE.withStatus(OrderStatus.CANCELLED)));
+    }
+
+    @Test
+    public void getQuantities_existingOrders_summed() {
+        orders.setOrders(Arrays.asList(ORDER_ONE, ORDER_TWO, ORDER_THREE));
+        ProductionPlan plan = new ProductionPlan(orders.asUnmodifiableObservableList());
+
+        // 2 + 1 croissants and 3 bagels, as the third order has been delivered
+        assertEquals(Map.of("Croissant", 3, "Bagel", 3), plan.getQuantities());
+        assertEquals(List.of("Croissant", "Bagel"), new ArrayList<>(plan.getQuantities().keySet()));
+
+        // pastries are identified by name ignoring case
+        assertEquals(3, plan.getQuantity(CROISSANT));
+        assertEquals(3, plan.getQuantity(new Pastry(new Name("CROISSANT"), new Price("1.00"))));
+        assertEquals(0, plan.getQuantity(CAKE));
+    }
+
+    @Test
+    public void getQuantities_listChanged_quantitiesUpdated() {
+        ProductionPlan plan = new ProductionPlan(orders.asUnmodifiableObservableList());
+        assertTrue(plan.getQuantities().isEmpty());
+
+        orders.add(ORDER_ONE);
+        orders.add(ORDER_TWO);
+        assertEquals(3, plan.getQuantity(CROISSANT));
+
+        // orders that are ready no longer need baking
+        Order readyOrder = ORDER_TWO.withStatus(OrderStatus.READY);
+        orders.setOrder(ORDER_TWO, readyOrder);
+        assertEquals(Map.of("Croissant", 2), plan.getQuantities());
+        assertEquals(0, plan.getQuantity(BAGEL));
+
+        // editing the items of an order replaces its quantities
+        Order editedOrder = new OrderBuilder(ORDER_ONE).withOrderItems(List.of(new OrderItem(BAGEL, 5))).build();
+        orders.setOrder(ORDER_ONE, editedOrder);
+        assertEquals(Map.of("Bagel", 5), plan.getQuantities());
+
+        orders.remove(editedOrder);
+        assertTrue(plan.getQuantities().isEmpty());
+
+        orders.setOrders(List.of(ORDER_ONE, ORDER_THREE));
+        assertEquals(Map.of("Croissant", 2), plan.getQuantities());
+    }
+
+    @Test
+    public void getQuantities_pastryRenamedInCase_latestNameListed() {
+        ProductionPlan plan = new ProductionPlan(orders.asUnmodifiableObservableList());
+        orders.add(ORDER_ONE);
+
+        Pastry renamedCroissant = new Pastry(new Name("CROISSANT"), CROISSANT.getPrice());
+        Order editedOrder = new OrderBuilder(ORDER_ONE)
+                .withOrderItems(List.of(new OrderItem(renamedCroissant, 2))).build();
+        orders.setOrder(ORDER_ONE, editedOrder);
+        assertEquals(Map.of("CROISSANT", 2), plan.getQuantities());
+    }
+
+    @Test
+    public void getQuantities_manyPastries_allCounted() {
+        ProductionPlan plan = new ProductionPlan(orders.asUnmodifiableObservableList());
+        List<OrderItem> items = new ArrayList<>();
+        for (int i = 1; i <= 40; i++) {
+            items.add(new OrderItem(new Pastry(new Name("Pastry " + i), new Price("1.00")), i));
+        }
+        orders.add(new OrderBuilder().withOrderItems(items).build());
+
+        assertEquals(40, plan.getQuantities().size());
+        assertEquals(40, plan.getQuantity(new Pastry(new Name("Pastry 40"), new Price("1.00"))));
+    }
+}
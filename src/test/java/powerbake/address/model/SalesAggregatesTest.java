@@ -0,0 +1,90 @@
+package powerbake.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static powerbake.address.testutil.Assert.assertThrows;
+import static powerbake.address.testutil.TypicalOrders.ORDER_ONE;
+import static powerbake.address.testutil.TypicalOrders.ORDER_THREE;
+import static powerbake.address.testutil.TypicalOrders.ORDER_TWO;
+import static powerbake.address.testutil.TypicalPastries.BAGEL;
+import static powerbake.address.testutil.TypicalPastries.CAKE;
+import static powerbake.address.testutil.TypicalPastries.CROISSANT;
+import static powerbake.address.testutil.TypicalPersons.ALICE;
+import static powerbake.address.testutil.TypicalPersons.BOB;
+import static powerbake.address.testutil.TypicalPersons.CARL;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import powerbake.address.model.order.Order;
+import powerbake.address.model.order.OrderStatus;
+import powerbake.address.model.order.UniqueOrderList;
+import powerbake.address.model.pastry.Name;
+import powerbake.address.model.pastry.Pastry;
+import powerbake.address.model.pastry.Price;
+import powerbake.address.testutil.PersonBuilder;
+
+public class SalesAggregatesTest {
+
+    private static final LocalDate ORDER_DATE = ORDER_ONE.getOrderDate().toLocalDate();
+
+    private final UniqueOrderList orders = new UniqueOrderList();
+
+    @Test
+    public void constructor_nullList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SalesAggregates(null));
+    }
+
+    @Test
+    public void getTotals_existingOrders_aggregated() {
+        orders.setOrders(Arrays.asList(ORDER_ONE, ORDER_TWO, ORDER_THREE));
+        SalesAggregates aggregates = new SalesAggregates(orders.asUnmodifiableObservableList());
+
+        // 2 + 4 + 3 items for 9.00 + 12.00 + 13.50
+        assertEquals(new SalesTotals(3, 9, 3450), aggregates.getTotals());
+        assertEquals(new SalesTotals(3, 9, 3450), aggregates.getTotalsOn(ORDER_DATE));
+        assertEquals(SalesTotals.NONE, aggregates.getTotalsOn(ORDER_DATE.plusDays(1)));
+
+        // per pastry, identified by name ignoring case
+        assertEquals(new SalesTotals(3, 6, 2700), aggregates.getTotalsOf(CROISSANT));
+        assertEquals(new SalesTotals(3, 6, 2700),
+                aggregates.getTotalsOf(new Pastry(new Name("CROISSANT"), new Price("1.00"))));
+        assertEquals(new SalesTotals(1, 3, 750), aggregates.getTotalsOf(BAGEL));
+        assertEquals(SalesTotals.NONE, aggregates.getTotalsOf(CAKE));
+
+        // per customer, identified by phone
+        assertEquals(new SalesTotals(2, 5, 2250), aggregates.getTotalsOf(ALICE));
+        assertEquals(new SalesTotals(2, 5, 2250),
+                aggregates.getTotalsOf(new PersonBuilder(ALICE).withName("Alice Tan").build()));
+        assertEquals(SalesTotals.NONE, aggregates.getTotalsOf(BOB));
+    }
+
+    @Test
+    public void getTotals_listChanged_totalsUpdated() {
+        SalesAggregates aggregates = new SalesAggregates(orders.asUnmodifiableObservableList());
+        orders.add(ORDER_ONE);
+        orders.add(ORDER_TWO);
+        assertEquals(new SalesTotals(2, 6, 2100), aggregates.getTotals());
+
+        // cancelled orders are not counted
+        Order cancelledOrder = ORDER_TWO.withStatus(OrderStatus.CANCELLED);
+        orders.setOrder(ORDER_TWO, cancelledOrder);
+        assertEquals(new SalesTotals(1, 2, 900), aggregates.getTotals());
+        assertEquals(SalesTotals.NONE, aggregates.getTotalsOf(CARL));
+        assertEquals(SalesTotals.NONE, aggregates.getTotalsOf(BAGEL));
+
+        // and count again once reinstated
+        orders.setOrder(cancelledOrder, ORDER_TWO);
+        assertEquals(new SalesTotals(1, 4, 1200), aggregates.getTotalsOf(CARL));
+
+        orders.remove(ORDER_ONE);
+        assertEquals(new SalesTotals(1, 4, 1200), aggregates.getTotalsOn(ORDER_DATE));
+        assertEquals(SalesTotals.NONE, aggregates.getTotalsOf(ALICE));
+
+        orders.setOrders(List.of(ORDER_THREE));
+        assertEquals(new SalesTotals(1, 3, 1350), aggregates.getTotals());
+        assertEquals(new SalesTotals(1, 3, 1350), aggregates.getTotalsOf(CROISSANT));
+    }
+}
@@ -0,0 +1,78 @@
+package powerbake.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static powerbake.address.testutil.TypicalPersons.ALICE;
+import static powerbake.address.testutil.TypicalPersons.BENSON;
+import static powerbake.address.testutil.TypicalPersons.DANIEL;
+import static powerbake.address.testutil.TypicalPersons.ELLE;
+import static powerbake.address.testutil.TypicalPersons.HOON;
+import static powerbake.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import powerbake.address.model.person.Person;
+import powerbake.address.testutil.PersonBuilder;
+
+public class TrigramIndexTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(getTypicalPersons());
+    private final TrigramIndex<Person> index = new TrigramIndex<>(persons, person -> person.getName().fullName);
+
+    @Test
+    public void find_misspeltKeyword_matchesFound() {
+        // one letter wrong, ignoring case
+        assertEquals(List.of(ALICE), index.find(List.of("ALISE")));
+
+        // letters swapped and missing
+        assertEquals(List.of(ALICE), index.find(List.of("paulnie")));
+
+        // too different, or no keywords
+        assertTrue(index.find(List.of("zzz")).isEmpty());
+        assertTrue(index.find(List.of("axe")).isEmpty());
+        assertTrue(index.find(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void find_severalMatches_closestMatchesFirst() {
+        List<Person> matches = index.find(List.of("meier"));
+
+        // the exact spellings come before the similar spelling
+        assertEquals(3, matches.size());
+        assertEquals(Set.of(BENSON, DANIEL), Set.copyOf(matches.subList(0, 2)));
+        assertEquals(ELLE, matches.get(2));
+    }
+
+    @Test
+    public void find_listChanged_indexUpdated() {
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Tan").build();
+        persons.set(persons.indexOf(ALICE), editedAlice);
+        persons.remove(BENSON);
+        persons.add(HOON);
+
+        assertEquals(List.of(editedAlice), index.find(List.of("alicai")));
+        assertTrue(index.find(List.of("pauline")).isEmpty());
+        assertEquals(Set.of(DANIEL, HOON), Set.copyOf(index.find(List.of("meier")).subList(0, 2)));
+
+        persons.clear();
+        assertTrue(index.find(List.of("meier")).isEmpty());
+    }
+
+    @Test
+    public void similarNamePredicate_sameMatchesAsFind() {
+        for (List<String> keywords : List.of(List.of("ALISE"), List.of("meier"), List.of("zzz"), List.<String>of())) {
+            Predicate<Person> predicate =
+                    TrigramIndex.similarNamePredicate(keywords, person -> person.getName().fullName);
+            assertEquals(Set.copyOf(index.find(keywords)),
+                    persons.stream().filter(predicate).collect(Collectors.toSet()));
+        }
+    }
+}
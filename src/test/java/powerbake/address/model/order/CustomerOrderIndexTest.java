@@ -0,0 +1,70 @@
+package powerbake.address.model.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static powerbake.address.testutil.Assert.assertThrows;
+import static powerbake.address.testutil.TypicalOrders.ORDER_ONE;
+import static powerbake.address.testutil.TypicalOrders.ORDER_THREE;
+import static powerbake.address.testutil.TypicalOrders.ORDER_TWO;
+import static powerbake.address.testutil.TypicalPersons.ALICE;
+import static powerbake.address.testutil.TypicalPersons.BOB;
+import static powerbake.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import powerbake.address.model.person.Person;
+import powerbake.address.testutil.OrderBuilder;
+import powerbake.address.testutil.PersonBuilder;
+
+public class CustomerOrderIndexTest {
+
+    private final UniqueOrderList orders = new UniqueOrderList();
+
+    @Test
+    public void constructor_nullList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CustomerOrderIndex(null));
+    }
+
+    @Test
+    public void getOrdersOf_existingOrders_indexed() {
+        orders.setOrders(Arrays.asList(ORDER_ONE, ORDER_TWO, ORDER_THREE));
+        CustomerOrderIndex index = new CustomerOrderIndex(orders.asUnmodifiableObservableList());
+
+        assertEquals(Arrays.asList(ORDER_ONE, ORDER_THREE), index.getOrdersOf(ALICE));
+        assertEquals(List.of(ORDER_TWO), index.getOrdersOf(CARL));
+        assertTrue(index.getOrdersOf(BOB).isEmpty());
+    }
+
+    @Test
+    public void getOrdersOf_customerWithSameIdentity_returnsOrders() {
+        orders.add(ORDER_ONE);
+        CustomerOrderIndex index = new CustomerOrderIndex(orders.asUnmodifiableObservableList());
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        assertEquals(List.of(ORDER_ONE), index.getOrdersOf(renamedAlice));
+    }
+
+    @Test
+    public void getOrdersOf_listChanged_indexUpdated() {
+        CustomerOrderIndex index = new CustomerOrderIndex(orders.asUnmodifiableObservableList());
+        orders.add(ORDER_ONE);
+        orders.add(ORDER_TWO);
+        assertEquals(List.of(ORDER_ONE), index.getOrdersOf(ALICE));
+
+        // order moved to another customer
+        Order reassignedOrder = new OrderBuilder(ORDER_ONE).withCustomer(BOB).build();
+        orders.setOrder(ORDER_ONE, reassignedOrder);
+        assertTrue(index.getOrdersOf(ALICE).isEmpty());
+        assertEquals(List.of(reassignedOrder), index.getOrdersOf(BOB));
+
+        orders.remove(ORDER_TWO);
+        assertTrue(index.getOrdersOf(CARL).isEmpty());
+
+        orders.setOrders(List.of(ORDER_THREE));
+        assertTrue(index.getOrdersOf(BOB).isEmpty());
+        assertEquals(List.of(ORDER_THREE), index.getOrdersOf(ALICE));
+    }
+}
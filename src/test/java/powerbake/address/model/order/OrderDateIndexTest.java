@@ -0,0 +1,80 @@
+package powerbake.address.model.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static powerbake.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import powerbake.address.testutil.OrderBuilder;
+
+public class OrderDateIndexTest {
+
+    private static final LocalDateTime FIRST_OCTOBER = LocalDateTime.parse("2026-10-01T00:00:00");
+
+    private final Order earlyOrder = orderPlacedAt("2026-10-01T08:00:00", "00000000-0000-0000-0000-000000000002");
+    private final Order sameTimeOrder = orderPlacedAt("2026-10-01T08:00:00", "00000000-0000-0000-0000-000000000001");
+    private final Order lateOrder = orderPlacedAt("2026-10-01T23:59:59", "00000000-0000-0000-0000-000000000003");
+    private final Order nextDayOrder = orderPlacedAt("2026-10-02T00:00:00", "00000000-0000-0000-0000-000000000004");
+
+    private final UniqueOrderList orders = new UniqueOrderList();
+
+    @Test
+    public void constructor_nullList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new OrderDateIndex(null));
+    }
+
+    @Test
+    public void getOrdersPlacedBetween_existingOrders_sortedByDateThenId() {
+        orders.setOrders(Arrays.asList(nextDayOrder, lateOrder, earlyOrder, sameTimeOrder));
+        OrderDateIndex index = new OrderDateIndex(orders.asUnmodifiableObservableList());
+
+        // start inclusive, end exclusive
+        assertEquals(List.of(sameTimeOrder, earlyOrder, lateOrder),
+                index.getOrdersPlacedBetween(FIRST_OCTOBER, FIRST_OCTOBER.plusDays(1)));
+        assertEquals(List.of(lateOrder, nextDayOrder),
+                index.getOrdersPlacedBetween(lateOrder.getOrderDate(), LocalDateTime.MAX));
+
+        // empty or reversed range
+        assertTrue(index.getOrdersPlacedBetween(FIRST_OCTOBER, FIRST_OCTOBER).isEmpty());
+        assertTrue(index.getOrdersPlacedBetween(FIRST_OCTOBER.plusDays(1), FIRST_OCTOBER).isEmpty());
+    }
+
+    @Test
+    public void countOrdersPlacedBetween_countsUpToLimit() {
+        orders.setOrders(Arrays.asList(nextDayOrder, lateOrder, earlyOrder, sameTimeOrder));
+        OrderDateIndex index = new OrderDateIndex(orders.asUnmodifiableObservableList());
+
+        assertEquals(3, index.countOrdersPlacedBetween(FIRST_OCTOBER, FIRST_OCTOBER.plusDays(1), 10));
+        assertEquals(2, index.countOrdersPlacedBetween(FIRST_OCTOBER, FIRST_OCTOBER.plusDays(1), 2));
+        assertEquals(0, index.countOrdersPlacedBetween(FIRST_OCTOBER.plusDays(1), FIRST_OCTOBER, 10));
+    }
+
+    @Test
+    public void getOrdersPlacedBetween_listChanged_indexUpdated() {
+        OrderDateIndex index = new OrderDateIndex(orders.asUnmodifiableObservableList());
+        orders.add(earlyOrder);
+        orders.add(lateOrder);
+
+        // edited order keeps its date
+        Order deliveredOrder = earlyOrder.withStatus(OrderStatus.DELIVERED);
+        orders.setOrder(earlyOrder, deliveredOrder);
+        List<Order> ordersOnFirstOctober = index.getOrdersPlacedBetween(FIRST_OCTOBER, FIRST_OCTOBER.plusDays(1));
+        assertEquals(List.of(deliveredOrder, lateOrder), ordersOnFirstOctober);
+        assertEquals(OrderStatus.DELIVERED, ordersOnFirstOctober.get(0).getStatus());
+
+        orders.remove(lateOrder);
+        assertEquals(List.of(deliveredOrder), index.getOrdersPlacedBetween(FIRST_OCTOBER, LocalDateTime.MAX));
+
+        orders.setOrders(List.of(nextDayOrder));
+        assertEquals(List.of(nextDayOrder), index.getOrdersPlacedBetween(LocalDateTime.MIN, LocalDateTime.MAX));
+    }
+
+    private static Order orderPlacedAt(String date, String orderId) {
+        return new OrderBuilder().withOrderId(new OrderId(orderId)).withOrderDate(LocalDateTime.parse(date)).build();
+    }
+}
@@ -138,4 +138,33 @@ public class OrderIdTest {
 
         assertNotEquals(orderId1.hashCode(), orderId2.hashCode());
     }
+
+    @Test
+    public void constructor_canonicalId_parsedIntoHalves() {
+        UUID uuid = UUID.randomUUID();
+        OrderId orderId = new OrderId(uuid.toString());
+
+        assertEquals(uuid.getMostSignificantBits(), orderId.getMostSignificantBits());
+        assertEquals(uuid.getLeastSignificantBits(), orderId.getLeastSignificantBits());
+        assertEquals(new OrderId(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()), orderId);
+        assertEquals(uuid.hashCode(), orderId.hashCode());
+    }
+
+    @Test
+    public void constructor_otherUuidForms_normalizedToCanonicalForm() {
+        String canonical = "0000000a-000b-000c-000d-00000000000e";
+
+        // upper case digits
+        assertEquals(new OrderId(canonical), new OrderId(canonical.toUpperCase()));
+        assertEquals(canonical, new OrderId(canonical.toUpperCase()).toString());
+
+        // leading zeros left out
+        assertEquals(canonical, new OrderId("a-b-c-d-e").toString());
+    }
+
+    @Test
+    public void isValidOrderId_nonHexDigitOrTooLong_returnsFalse() {
+        assertFalse(OrderId.isValidOrderId("123e4567-e89b-12d3-a456-42661417400g"));
+        assertFalse(OrderId.isValidOrderId("123e4567-e89b-12d3-a456-4266141740000"));
+    }
 }
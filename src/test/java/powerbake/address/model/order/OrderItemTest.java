@@ -42,6 +42,14 @@ public class OrderItemTest {
         });
     }
 
+    @Test
+    public void constructor_subtotalTooLarge_throwsIllegalArgumentException() {
+        Pastry expensivePastry = new Pastry(new Name("Gold Cake"), new Price("999999999.99"));
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () ->
+                new OrderItem(expensivePastry, Integer.MAX_VALUE));
+        assertEquals(OrderItem.MESSAGE_SUBTOTAL_TOO_LARGE, thrown.getMessage());
+    }
+
     @Test
     public void constructor_nullPastry_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> {
@@ -0,0 +1,89 @@
+package powerbake.address.model.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static powerbake.address.testutil.TypicalOrders.ORDER_ONE;
+import static powerbake.address.testutil.TypicalOrders.ORDER_THREE;
+import static powerbake.address.testutil.TypicalOrders.ORDER_TWO;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import powerbake.address.testutil.OrderBuilder;
+
+public class OrderQueryTest {
+
+    @Test
+    public void test_noConditions_matchesEveryOrder() {
+        OrderQuery query = new OrderQuery();
+        assertTrue(query.test(ORDER_ONE));
+        assertTrue(query.test(ORDER_TWO));
+        assertFalse(query.hasConditionsOtherThanCustomer());
+    }
+
+    @Test
+    public void test_singleCondition() {
+        // status
+        assertTrue(new OrderQuery().withStatus(OrderStatus.PENDING).test(ORDER_ONE));
+        assertFalse(new OrderQuery().withStatus(OrderStatus.PENDING).test(ORDER_TWO));
+
+        // customer name, ignoring case
+        assertTrue(new OrderQuery().withCustomerKeywords(List.of("carl")).test(ORDER_TWO));
+        assertFalse(new OrderQuery().withCustomerKeywords(List.of("carl")).test(ORDER_ONE));
+
+        // any pastry in the order
+        assertTrue(new OrderQuery().withPastryKeywords(List.of("BAGEL")).test(ORDER_TWO));
+        assertFalse(new OrderQuery().withPastryKeywords(List.of("bagel")).test(ORDER_ONE));
+
+        // totals are inclusive, ORDER_ONE totals 9.00 and ORDER_TWO totals 12.00
+        assertTrue(new OrderQuery().withMinTotalCents(900).test(ORDER_ONE));
+        assertFalse(new OrderQuery().withMinTotalCents(901).test(ORDER_ONE));
+        assertTrue(new OrderQuery().withMaxTotalCents(1200).test(ORDER_TWO));
+        assertFalse(new OrderQuery().withMaxTotalCents(1199).test(ORDER_TWO));
+    }
+
+    @Test
+    public void test_dateRange_wholeDaysIncluded() {
+        Order lateOrder = new OrderBuilder().withOrderDate(LocalDateTime.parse("2026-10-01T23:59:59")).build();
+        Order earlyOrder = new OrderBuilder().withOrderDate(LocalDateTime.parse("2026-10-02T00:00:00")).build();
+        LocalDate firstOctober = LocalDate.parse("2026-10-01");
+
+        assertTrue(new OrderQuery().withFromDate(firstOctober).test(lateOrder));
+        assertTrue(new OrderQuery().withToDate(firstOctober).test(lateOrder));
+        assertFalse(new OrderQuery().withToDate(firstOctober).test(earlyOrder));
+        assertFalse(new OrderQuery().withFromDate(firstOctober.plusDays(2)).test(earlyOrder));
+    }
+
+    @Test
+    public void test_multipleConditions_allMustMatch() {
+        OrderQuery query = new OrderQuery().withCustomerKeywords(List.of("alice"))
+                .withPastryKeywords(List.of("croissant")).withMinTotalCents(1000);
+        assertFalse(query.test(ORDER_ONE));
+        assertFalse(query.test(ORDER_TWO));
+        assertTrue(query.test(ORDER_THREE));
+        assertTrue(query.hasConditionsOtherThanCustomer());
+    }
+
+    @Test
+    public void equals() {
+        OrderQuery query = new OrderQuery().withStatus(OrderStatus.READY).withCustomerKeywords(List.of("alice"));
+
+        // same values -> returns true
+        assertEquals(query, new OrderQuery().withCustomerKeywords(List.of("alice")).withStatus(OrderStatus.READY));
+
+        // same object -> returns true
+        assertTrue(query.equals(query));
+
+        // null -> returns false
+        assertFalse(query.equals(null));
+
+        // different values -> returns false
+        assertFalse(query.equals(query.withStatus(OrderStatus.PENDING)));
+        assertFalse(query.equals(query.withMaxTotalCents(100)));
+        assertFalse(query.equals(new OrderQuery()));
+    }
+}
@@ -0,0 +1,105 @@
+package powerbake.address.model.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static powerbake.address.testutil.Assert.assertThrows;
+import static powerbake.address.testutil.TypicalOrders.ORDER_ONE;
+import static powerbake.address.testutil.TypicalOrders.ORDER_THREE;
+import static powerbake.address.testutil.TypicalOrders.ORDER_TWO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ObservableList;
+import powerbake.address.testutil.OrderBuilder;
+
+public class OrderStatusIndexTest {
+
+    private final UniqueOrderList orders = new UniqueOrderList();
+
+    @Test
+    public void constructor_nullList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new OrderStatusIndex(null));
+    }
+
+    @Test
+    public void getOrders_existingOrders_partitionedByStatus() {
+        orders.setOrders(Arrays.asList(ORDER_ONE, ORDER_TWO, ORDER_THREE));
+        OrderStatusIndex index = new OrderStatusIndex(orders.asUnmodifiableObservableList());
+
+        assertEquals(List.of(ORDER_ONE), index.getOrders(OrderStatus.PENDING));
+        assertEquals(List.of(ORDER_TWO), index.getOrders(OrderStatus.PROCESSING));
+        assertEquals(List.of(ORDER_THREE), index.getOrders(OrderStatus.DELIVERED));
+        assertTrue(index.getOrders(OrderStatus.READY).isEmpty());
+        assertEquals(1, index.count(OrderStatus.PENDING));
+        assertEquals(0, index.count(OrderStatus.CANCELLED));
+    }
+
+    @Test
+    public void getOrders_listChanged_viewsUpdated() {
+        OrderStatusIndex index = new OrderStatusIndex(orders.asUnmodifiableObservableList());
+        ObservableList<Order> pendingOrders = index.getOrders(OrderStatus.PENDING);
+        ObservableList<Order> readyOrders = index.getOrders(OrderStatus.READY);
+
+        Order otherPendingOrder = new OrderBuilder().withStatus(OrderStatus.PENDING).build();
+        orders.add(ORDER_ONE);
+        orders.add(otherPendingOrder);
+        assertEquals(List.of(ORDER_ONE, otherPendingOrder), pendingOrders);
+
+        // status changed, moves to the end of the other status
+        Order readyOrder = ORDER_ONE.withStatus(OrderStatus.READY);
+        orders.setOrder(ORDER_ONE, readyOrder);
+        assertEquals(List.of(otherPendingOrder), pendingOrders);
+        assertEquals(List.of(readyOrder), readyOrders);
+
+        // edited without changing status, keeps its place
+        orders.add(ORDER_TWO.withStatus(OrderStatus.READY));
+        Order editedReadyOrder = new OrderBuilder(readyOrder).withOrderItems(ORDER_TWO.getOrderItems()).build();
+        orders.setOrder(readyOrder, editedReadyOrder);
+        assertEquals(List.of(editedReadyOrder, ORDER_TWO.withStatus(OrderStatus.READY)), readyOrders);
+        assertEquals(2, index.count(OrderStatus.READY));
+
+        orders.remove(otherPendingOrder);
+        assertTrue(pendingOrders.isEmpty());
+
+        orders.setOrders(List.of(ORDER_THREE));
+        assertTrue(readyOrders.isEmpty());
+        assertEquals(List.of(ORDER_THREE), index.getOrders(OrderStatus.DELIVERED));
+    }
+
+    @Test
+    public void getOrders_bulkChange_rebuiltInSamePlaces() {
+        List<Order> pendingOrders = new ArrayList<>();
+        for (int i = 0; i <= OrderStatusIndex.BULK_CHANGE_THRESHOLD; i++) {
+            pendingOrders.add(new OrderBuilder().withStatus(OrderStatus.PENDING).build());
+        }
+        orders.add(ORDER_ONE);
+        OrderStatusIndex index = new OrderStatusIndex(orders.asUnmodifiableObservableList());
+
+        List<Order> replacement = new ArrayList<>(pendingOrders);
+        replacement.add(0, ORDER_TWO);
+        orders.setOrders(replacement);
+        assertEquals(pendingOrders, index.getOrders(OrderStatus.PENDING));
+        assertEquals(List.of(ORDER_TWO), index.getOrders(OrderStatus.PROCESSING));
+
+        // the index still follows small changes after a bulk change
+        Order readyOrder = pendingOrders.get(1).withStatus(OrderStatus.READY);
+        orders.setOrder(pendingOrders.get(1), readyOrder);
+        orders.remove(pendingOrders.get(0));
+        assertEquals(pendingOrders.subList(2, pendingOrders.size()), index.getOrders(OrderStatus.PENDING));
+        assertEquals(List.of(readyOrder), index.getOrders(OrderStatus.READY));
+
+        orders.setOrders(List.of(ORDER_THREE));
+        assertTrue(index.getOrders(OrderStatus.PENDING).isEmpty());
+        assertEquals(List.of(ORDER_THREE), index.getOrders(OrderStatus.DELIVERED));
+    }
+
+    @Test
+    public void getOrders_modifyView_throwsUnsupportedOperationException() {
+        OrderStatusIndex index = new OrderStatusIndex(orders.asUnmodifiableObservableList());
+        assertThrows(UnsupportedOperationException.class, () -> index.getOrders(OrderStatus.PENDING).add(ORDER_ONE));
+    }
+}
@@ -5,9 +5,11 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static powerbake.address.testutil.TypicalPastries.CROISSANT;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +17,7 @@ import org.junit.jupiter.api.Test;
 
 import powerbake.address.model.pastry.Pastry;
 import powerbake.address.model.person.Person;
+import powerbake.address.testutil.PastryBuilder;
 import powerbake.address.testutil.PersonBuilder;
 
 public class OrderTest {
@@ -50,6 +53,17 @@ public class OrderTest {
         });
     }
 
+    @Test
+    public void constructor_totalTooLarge_throwsIllegalArgumentException() {
+        // each subtotal is held in cents, but their sum is not
+        List<OrderItem> expensiveItems = List.of(
+                new OrderItem(new PastryBuilder().withName("Gold Cake").withPrice("999999999.99").build(), 50_000_000),
+                new OrderItem(new PastryBuilder().withName("Gold Tart").withPrice("999999999.99").build(), 50_000_000));
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () ->
+                new Order(customer, expensiveItems));
+        assertEquals(Order.MESSAGE_TOTAL_TOO_LARGE, thrown.getMessage());
+    }
+
     @Test
     public void constructor_basicConstructor_success() {
         Order order = new Order(customer, orderItems);
@@ -144,6 +158,16 @@ public class OrderTest {
         assertEquals(expectedTotal, order.getTotalPrice());
     }
 
+    @Test
+    public void getTotalCents_exactTotal() {
+        Pastry pastry = new PastryBuilder().withName("Tart").withPrice("0.10").build();
+        Order order = new Order(customer, Arrays.asList(new OrderItem(pastry, 3), new OrderItem(CROISSANT, 1)));
+
+        // 0.10 * 3 is not exact in floating point
+        assertEquals(30 + CROISSANT.getPrice().getCents(), order.getTotalCents());
+        assertEquals(order.getTotalCents(), order.withStatus(OrderStatus.READY).getTotalCents());
+    }
+
     @Test
     public void equals_sameOrderId_returnsTrue() {
         OrderId orderId = new OrderId();
@@ -175,6 +175,57 @@ public class UniqueOrderListTest {
         assertEquals(0, uniqueOrderList.asUnmodifiableObservableList().size());
     }
 
+    @Test
+    public void remove_orderBeforeOtherOrders_keepsLaterOrdersIndexed() {
+        Order first = new Order(customer, orderItems);
+        Order second = new Order(customer, orderItems);
+        Order third = new Order(customer, orderItems);
+        uniqueOrderList.setOrders(Arrays.asList(first, second, third));
+        uniqueOrderList.remove(first);
+
+        Order editedThird = third.withStatus(OrderStatus.READY);
+        uniqueOrderList.setOrder(third, editedThird);
+        assertEquals(Arrays.asList(second, editedThird), uniqueOrderList.asUnmodifiableObservableList());
+        assertEquals(OrderStatus.READY, uniqueOrderList.getById(third.getOrderId()).get().getStatus());
+    }
+
+    @Test
+    public void remove_severalOrdersThenAdd_allOrdersIndexed() {
+        Order first = new Order(customer, orderItems);
+        Order second = new Order(customer, orderItems);
+        Order third = new Order(customer, orderItems);
+        Order fourth = new Order(customer, orderItems);
+        Order fifth = new Order(customer, orderItems);
+        uniqueOrderList.setOrders(Arrays.asList(first, second, third, fourth));
+        uniqueOrderList.remove(third);
+        uniqueOrderList.remove(first);
+        uniqueOrderList.add(fifth);
+        uniqueOrderList.remove(fourth);
+
+        assertEquals(Arrays.asList(second, fifth), uniqueOrderList.asUnmodifiableObservableList());
+        assertEquals(fifth, uniqueOrderList.getById(fifth.getOrderId()).get());
+        assertEquals(second, uniqueOrderList.getById(second.getOrderId()).get());
+        assertFalse(uniqueOrderList.getById(fourth.getOrderId()).isPresent());
+    }
+
+    @Test
+    public void getById_nullOrderId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueOrderList.getById(null));
+    }
+
+    @Test
+    public void getById_orderNotInList_returnsEmpty() {
+        Order order = new Order(customer, orderItems);
+        assertFalse(uniqueOrderList.getById(order.getOrderId()).isPresent());
+    }
+
+    @Test
+    public void getById_orderInList_returnsOrder() {
+        Order order = new Order(customer, orderItems);
+        uniqueOrderList.add(order);
+        assertEquals(order, uniqueOrderList.getById(new OrderId(order.getOrderId().toString())).get());
+    }
+
     @Test
     public void setOrders_nullList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueOrderList.setOrders((List<Order>) null));
@@ -297,6 +348,23 @@ public class UniqueOrderListTest {
         assertFalse(iterator.hasNext());
     }
 
+    @Test
+    public void rollbackBatch_changesMadeInBatch_undone() {
+        Order order1 = new Order(customer, orderItems);
+        Order order2 = new Order(customer, orderItems);
+        uniqueOrderList.add(order1);
+
+        uniqueOrderList.beginBatch();
+        uniqueOrderList.add(order2);
+        uniqueOrderList.remove(order1);
+        uniqueOrderList.rollbackBatch();
+
+        assertEquals(List.of(order1), uniqueOrderList.asUnmodifiableObservableList());
+        assertTrue(uniqueOrderList.contains(order1));
+        assertFalse(uniqueOrderList.contains(order2));
+        assertEquals(order1, uniqueOrderList.getById(order1.getOrderId()).get());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         Order order = new Order(customer, orderItems);
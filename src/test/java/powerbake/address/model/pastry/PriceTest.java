@@ -1,5 +1,6 @@
 package powerbake.address.model.pastry;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -33,6 +34,10 @@ public class PriceTest {
         assertFalse(Price.isValidPrice(".54")); // less than 1 number before decimal point
         assertFalse(Price.isValidPrice("1.5.4")); // more than 1 decimal point
         assertFalse(Price.isValidPrice("1.543")); // more than 2 decimal places
+        assertFalse(Price.isValidPrice("3x50")); // separator other than a decimal point
+        assertFalse(Price.isValidPrice("1234567890123456")); // too many digits to be held in cents
+        assertFalse(Price.isValidPrice("1234567890")); // too many digits to be multiplied by a quantity
+        assertFalse(Price.isValidPrice("1000000000.00")); // one digit more than the limit before the decimal point
 
         // valid amounts
         assertTrue(Price.isValidPrice("911")); // number without decimal
@@ -40,6 +45,26 @@ public class PriceTest {
         assertTrue(Price.isValidPrice("6.5")); // number with 1 decimal
         assertTrue(Price.isValidPrice("123.57")); // number with 2 decimal places
         assertTrue(Price.isValidPrice("124293843.57")); // long number with 2 decimal places
+        assertTrue(Price.isValidPrice("999999999.99")); // largest price, at the limit of digits
+    }
+
+    @Test
+    public void getCents() {
+        assertEquals(350, new Price("3.5").getCents());
+        assertEquals(1205, new Price("12.05").getCents());
+        assertEquals(900, new Price("009").getCents());
+        assertEquals("3.50", new Price("3.5").amount);
+        assertEquals("0.07", Price.fromCents(7).amount);
+        assertEquals(new Price("12.05"), Price.fromCents(1205));
+        assertThrows(IllegalArgumentException.class, () -> Price.fromCents(-1));
+    }
+
+    @Test
+    public void formatCents() {
+        assertEquals("0.00", Price.formatCents(0));
+        assertEquals("0.09", Price.formatCents(9));
+        assertEquals("1.10", Price.formatCents(110));
+        assertEquals("123456.78", Price.formatCents(12345678));
     }
 
     @Test
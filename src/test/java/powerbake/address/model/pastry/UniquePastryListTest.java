@@ -137,6 +137,32 @@ public class UniquePastryListTest {
         assertFalse(uniquePastryList.contains(CROISSANT));
     }
 
+    @Test
+    public void remove_pastryBeforeOtherPastries_keepsLaterPastriesIndexed() {
+        uniquePastryList.setPastries(Arrays.asList(BAGEL, CAKE, CROISSANT));
+        uniquePastryList.remove(BAGEL);
+        Pastry editedCroissant = new PastryBuilder(CROISSANT).withPrice("9.00").build();
+        uniquePastryList.setPastry(CROISSANT, editedCroissant);
+        assertEquals(Arrays.asList(CAKE, editedCroissant), uniquePastryList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getByName_nullName_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePastryList.getByName(null));
+    }
+
+    @Test
+    public void getByName_pastryNotInList_returnsEmpty() {
+        uniquePastryList.add(BAGEL);
+        assertFalse(uniquePastryList.getByName("Cake").isPresent());
+    }
+
+    @Test
+    public void getByName_differentCase_returnsPastry() {
+        uniquePastryList.add(CROISSANT);
+        assertEquals(CROISSANT, uniquePastryList.getByName("cROISSANT").get());
+    }
+
     @Test
     public void setPastries_nullUniquePastryList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePastryList.setPastries((UniquePastryList) null));
@@ -127,6 +127,39 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
+    @Test
+    public void remove_personBeforeOtherPersons_keepsLaterPersonsIndexed() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        uniquePersonList.remove(ALICE);
+        Person editedBob = new PersonBuilder(BOB).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(BOB, editedBob);
+        assertEquals(Collections.singletonList(editedBob), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getByPhone_nullPhone_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.getByPhone(null));
+    }
+
+    @Test
+    public void getByPhone_personNotInList_returnsEmpty() {
+        uniquePersonList.add(ALICE);
+        assertFalse(uniquePersonList.getByPhone(BOB.getPhone()).isPresent());
+    }
+
+    @Test
+    public void getByPhone_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(ALICE, uniquePersonList.getByPhone(new Phone(ALICE.getPhone().value)).get());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
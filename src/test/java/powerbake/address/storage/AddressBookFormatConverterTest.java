@@ -0,0 +1,88 @@
+package powerbake.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static powerbake.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static powerbake.address.testutil.TypicalPersons.HOON;
+import static powerbake.address.testutil.TypicalPersons.IDA;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import powerbake.address.model.AddressBook;
+
+public class AddressBookFormatConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void jsonToBinaryToJson_typicalAddressBook_sameData() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Path binaryFilePath = testFolder.resolve("addressbook.bin");
+        Path convertedFilePath = testFolder.resolve("converted.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        assertTrue(AddressBookFormatConverter.jsonToBinary(jsonFilePath, binaryFilePath));
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(binaryFilePath).readAddressBook().get()));
+
+        assertTrue(AddressBookFormatConverter.binaryToJson(binaryFilePath, convertedFilePath));
+        assertEquals(Files.readString(jsonFilePath), Files.readString(convertedFilePath));
+    }
+
+    @Test
+    public void convert_missingSource_nothingSaved() throws Exception {
+        Path binaryFilePath = testFolder.resolve("addressbook.bin");
+        assertFalse(AddressBookFormatConverter.jsonToBinary(testFolder.resolve("missing.json"), binaryFilePath));
+        assertFalse(Files.exists(binaryFilePath));
+    }
+
+    @Test
+    public void migrate_switchFormatOffAndOn_editsSurvive() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+        AddressBook addressBook = getTypicalAddressBook();
+        jsonStorage.saveAddressBook(addressBook);
+
+        // binary storage switched on
+        assertTrue(AddressBookFormatConverter.migrate(jsonStorage, binaryStorage));
+        assertFalse(Files.exists(jsonStorage.getAddressBookFilePath()));
+        addressBook.addPerson(HOON);
+        binaryStorage.saveAddressBook(addressBook);
+
+        // binary storage switched off
+        assertTrue(AddressBookFormatConverter.migrate(binaryStorage, jsonStorage));
+        assertFalse(Files.exists(binaryStorage.getAddressBookFilePath()));
+        assertEquals(addressBook, new AddressBook(jsonStorage.readAddressBook().get()));
+        addressBook.addPerson(IDA);
+        jsonStorage.saveAddressBook(addressBook);
+
+        // binary storage switched on again
+        assertTrue(AddressBookFormatConverter.migrate(jsonStorage, binaryStorage));
+        assertEquals(addressBook, new AddressBook(binaryStorage.readAddressBook().get()));
+        assertFalse(AddressBookFormatConverter.migrate(jsonStorage, binaryStorage));
+    }
+
+    @Test
+    public void migrate_sourceOlderThanTarget_targetKeptAndSourceRetired() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+        AddressBook newer = getTypicalAddressBook();
+        newer.addPerson(HOON);
+        jsonStorage.saveAddressBook(getTypicalAddressBook());
+        binaryStorage.saveAddressBook(newer);
+        Files.setLastModifiedTime(jsonStorage.getAddressBookFilePath(), FileTime.fromMillis(0));
+
+        assertFalse(AddressBookFormatConverter.migrate(jsonStorage, binaryStorage));
+        assertEquals(newer, new AddressBook(binaryStorage.readAddressBook().get()));
+        assertFalse(Files.exists(jsonStorage.getAddressBookFilePath()));
+        assertTrue(Files.exists(
+                testFolder.resolve("addressbook.json" + AddressBookFormatConverter.MIGRATED_FILE_SUFFIX)));
+    }
+}
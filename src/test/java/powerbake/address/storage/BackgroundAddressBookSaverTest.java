@@ -0,0 +1,182 @@
+package powerbake.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static powerbake.address.testutil.Assert.assertThrows;
+import static powerbake.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static powerbake.address.testutil.TypicalPersons.HOON;
+import static powerbake.address.testutil.TypicalPersons.IDA;
+
+import java.io.IOException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import powerbake.address.model.AddressBook;
+import powerbake.address.model.ReadOnlyAddressBook;
+
+public class BackgroundAddressBookSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BackgroundAddressBookSaver(null));
+    }
+
+    @Test
+    public void saveAddressBook_thenRead_returnsLatestData() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+
+        saver.saveAddressBook(original);
+        original.addPerson(HOON);
+        saver.saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(saver.readAddressBook().get()));
+        saver.close();
+    }
+
+    @Test
+    public void saveAddressBook_burstWhileWriting_coalescedIntoOneWrite() throws Exception {
+        BlockingAddressBookStorage delegate = new BlockingAddressBookStorage(testFolder.resolve("Unused.json"));
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(delegate);
+        AddressBook original = getTypicalAddressBook();
+
+        saver.saveAddressBook(original);
+        delegate.writeStarted.await();
+
+        // later changes do not affect the snapshot being written
+        original.addPerson(HOON);
+        saver.saveAddressBook(original);
+        original.addPerson(IDA);
+        saver.saveAddressBook(original);
+
+        delegate.allowWrites.countDown();
+        saver.flush();
+
+        assertEquals(2, delegate.saved.size());
+        assertEquals(getTypicalAddressBook(), new AddressBook(delegate.saved.get(0)));
+        assertEquals(original, new AddressBook(delegate.saved.get(1)));
+        assertNotSame(original, delegate.saved.get(1));
+        saver.close();
+    }
+
+    @Test
+    public void saveAddressBook_unchangedSinceLastWrite_skipped() throws Exception {
+        Path filePath = Files.createFile(testFolder.resolve("TempAddressBook.json"));
+        BlockingAddressBookStorage delegate = new BlockingAddressBookStorage(filePath);
+        delegate.allowWrites.countDown();
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(delegate);
+        AddressBook original = getTypicalAddressBook();
+
+        saver.saveAddressBook(original);
+        saver.flush();
+        saver.saveAddressBook(original);
+        saver.flush();
+        assertEquals(1, delegate.saved.size());
+
+        original.addPerson(HOON);
+        saver.saveAddressBook(original);
+        saver.flush();
+        assertEquals(2, delegate.saved.size());
+        saver.close();
+    }
+
+    @Test
+    public void flush_earlierWriteFailed_throwsFailureOnce() throws Exception {
+        BlockingAddressBookStorage delegate = new BlockingAddressBookStorage(testFolder.resolve("Unused.json"));
+        delegate.failure = new AccessDeniedException("Unused.json");
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(delegate);
+        saver.saveAddressBook(getTypicalAddressBook());
+        delegate.allowWrites.countDown();
+
+        // without a failure handler, the failure is reported by the next flush, preserving its type
+        assertThrows(AccessDeniedException.class, () -> saver.flush());
+        saver.flush();
+        saver.close();
+    }
+
+    @Test
+    public void saveAddressBook_writeFailedWithFailureHandler_failurePassedToHandler() throws Exception {
+        BlockingAddressBookStorage delegate = new BlockingAddressBookStorage(testFolder.resolve("Unused.json"));
+        delegate.failure = new AccessDeniedException("Unused.json");
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(delegate);
+        List<IOException> failures = new CopyOnWriteArrayList<>();
+        saver.setFailureHandler(failures::add);
+        saver.saveAddressBook(getTypicalAddressBook());
+        delegate.allowWrites.countDown();
+        saver.flush();
+
+        // the failure is reported once, through the handler only
+        assertEquals(List.of(delegate.failure), failures);
+        saver.saveAddressBook(new AddressBook());
+        saver.close();
+        assertEquals(2, failures.size());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writtenImmediately() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path otherFilePath = testFolder.resolve("OtherAddressBook.json");
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+
+        saver.saveAddressBook(original, otherFilePath);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(otherFilePath).readAddressBook().get()));
+        saver.close();
+    }
+
+    @Test
+    public void close_pendingSnapshot_written() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+
+        saver.saveAddressBook(original);
+        saver.close();
+        Optional<ReadOnlyAddressBook> saved = new JsonAddressBookStorage(filePath).readAddressBook();
+        assertTrue(saved.isPresent());
+        assertEquals(original, new AddressBook(saved.get()));
+    }
+
+    /**
+     * A storage that records the address books saved to it, and blocks its writes until allowed to proceed.
+     * If {@code failure} is set, writes throw it instead of recording the address book.
+     */
+    private static class BlockingAddressBookStorage extends JsonAddressBookStorage {
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch allowWrites = new CountDownLatch(1);
+        private final List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        private IOException failure;
+
+        BlockingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            writeStarted.countDown();
+            try {
+                allowWrites.await();
+            } catch (InterruptedException ie) {
+                throw new AssertionError(ie);
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            saved.add(addressBook);
+        }
+    }
+}
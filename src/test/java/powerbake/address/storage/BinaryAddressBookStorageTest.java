@@ -0,0 +1,128 @@
+package powerbake.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static powerbake.address.testutil.Assert.assertThrows;
+import static powerbake.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static powerbake.address.testutil.TypicalOrders.ORDER_ONE;
+import static powerbake.address.testutil.TypicalPersons.ALICE;
+
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import powerbake.address.commons.exceptions.DataLoadingException;
+import powerbake.address.model.AddressBook;
+import powerbake.address.model.order.Order;
+import powerbake.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("addressbook")));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_typicalAddressBook_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        // all fields of the orders are kept, and customers are resolved to the clients
+        for (int i = 0; i < original.getOrderList().size(); i++) {
+            Order expected = original.getOrderList().get(i);
+            Order actual = readBack.getOrderList().get(i);
+            assertEquals(expected.getOrderDate(), actual.getOrderDate());
+            assertEquals(expected.getStatus(), actual.getStatus());
+            assertEquals(expected.getOrderItems(), actual.getOrderItems());
+            assertEquals(expected.getCustomer(), actual.getCustomer());
+            assertSame(readBack.findPersonByPhone(actual.getCustomer().getPhone()).get(), actual.getCustomer());
+        }
+
+        // the binary file is smaller than the JSON file
+        Path jsonFilePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(jsonFilePath, true).saveAddressBook(original);
+        assertTrue(Files.size(filePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_customerNotAClient_customerKept() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder(ALICE).withEmail("alice@bakery.com").build());
+        original.addOrder(ORDER_ONE);
+
+        storage.saveAddressBook(original);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        Order order = readBack.getOrderList().get(0);
+        assertEquals(ORDER_ONE.getCustomer(), order.getCustomer());
+        assertNotSame(readBack.getPersonList().get(0), order.getCustomer());
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        Files.writeString(filePath, "not binary format!");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.writeInt(BinaryAddressBookStorage.MAGIC_NUMBER);
+            out.writeInt(BinaryAddressBookStorage.FORMAT_VERSION + 1);
+        }
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 5));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidValue_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.writeInt(BinaryAddressBookStorage.MAGIC_NUMBER);
+            out.writeInt(BinaryAddressBookStorage.FORMAT_VERSION);
+            out.writeInt(1); // one string in the dictionary
+            out.writeInt(1);
+            out.write('@');
+            out.writeInt(1); // one person, with an invalid name
+            for (int i = 0; i < 4; i++) {
+                out.writeInt(0);
+            }
+            out.writeInt(0); // no tags
+            out.writeInt(0); // no pastries
+            out.writeInt(0); // no orders
+        }
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+}
@@ -0,0 +1,200 @@
+package powerbake.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static powerbake.address.testutil.Assert.assertThrows;
+import static powerbake.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static powerbake.address.testutil.TypicalOrders.ORDER_ONE;
+import static powerbake.address.testutil.TypicalPastries.CHOCOLATECROISSANT;
+import static powerbake.address.testutil.TypicalPastries.CROISSANT;
+import static powerbake.address.testutil.TypicalPersons.ALICE;
+import static powerbake.address.testutil.TypicalPersons.HOON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import powerbake.address.commons.exceptions.DataLoadingException;
+import powerbake.address.model.AddressBook;
+import powerbake.address.model.order.OrderStatus;
+import powerbake.address.testutil.PastryBuilder;
+import powerbake.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledAddressBookStorage(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("MissingAddressBook.json");
+        assertFalse(new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath)).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterCheckpoint_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+
+        // first save writes a checkpoint
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalFilePath));
+        String checkpoint = Files.readString(filePath);
+
+        // additions, edits and deletions are appended to the journal only
+        original.addPerson(HOON);
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withEmail("alice@bakery.com").build());
+        original.setPastry(CROISSANT, new PastryBuilder(CROISSANT).withPrice("5.00").build());
+        original.addPastry(CHOCOLATECROISSANT);
+        original.setOrder(ORDER_ONE, ORDER_ONE.withStatus(OrderStatus.READY));
+        storage.saveAddressBook(original);
+        original.removePerson(HOON);
+        storage.saveAddressBook(original);
+
+        assertEquals(checkpoint, Files.readString(filePath));
+        // a header and six entries
+        assertEquals(7, Files.readAllLines(journalFilePath).size());
+        assertTrue(Files.readAllLines(journalFilePath).get(0).startsWith(JournaledAddressBookStorage.HEADER_PREFIX));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // a fresh storage replays the journal
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        assertEquals(original, new AddressBook(reopened.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_bulkChange_writesCheckpoint() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+
+        AddressBook replacement = new AddressBook();
+        replacement.addPerson(ALICE);
+        original.resetData(replacement);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_checkpointIntervalReached_writesCheckpoint() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath), 2);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(2, Files.readAllLines(JournaledAddressBookStorage.getJournalFilePath(filePath)).size());
+
+        original.removePerson(HOON);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.writeString(journalFilePath, "{\"action\":\"add\",\"person\":{\"na", StandardOpenOption.APPEND);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalAlreadyInCheckpoint_entriesSkipped() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+
+        // simulates a crash after writing a checkpoint but before discarding the journal
+        String journal = Files.readString(journalFilePath);
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        Files.writeString(journalFilePath, journal);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalOfOtherCheckpoint_ignored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // the checkpoint the journal was started on is replaced by different data
+        AddressBook replacement = new AddressBook();
+        replacement.addPerson(ALICE);
+        new JsonAddressBookStorage(filePath).saveAddressBook(replacement);
+
+        assertEquals(replacement, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_dataFileMissing_journalReplayedOnBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // simulates a crash after the checkpoint became the backup but before the new data file replaced it
+        new JsonAddressBookStorage(filePath).saveAddressBook(new AddressBook());
+        Files.delete(filePath);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_malformedEntry_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Files.writeString(JournaledAddressBookStorage.getJournalFilePath(filePath), "{\"action\":\"add\"}\n");
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesFullCopy() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path otherFilePath = testFolder.resolve("OtherAddressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original, otherFilePath);
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(otherFilePath)));
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+}
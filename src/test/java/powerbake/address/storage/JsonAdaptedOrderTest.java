@@ -1,6 +1,7 @@
 package powerbake.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static powerbake.address.testutil.TypicalPersons.ALICE;
 
@@ -12,6 +13,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import powerbake.address.commons.exceptions.IllegalValueException;
+import powerbake.address.model.AddressBook;
 import powerbake.address.model.order.Order;
 import powerbake.address.model.order.OrderStatus;
 import powerbake.address.testutil.OrderBuilder;
@@ -35,6 +37,30 @@ public class JsonAdaptedOrderTest {
         assertEquals(ord, order.toModelType());
     }
 
+    @Test
+    public void toModelType_referencedCustomer_returnsOrderOfClient() throws Exception {
+        Order ord = new OrderBuilder().build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ord.getCustomer());
+
+        Order orderFromJson = new JsonAdaptedOrder(ord, true).toModelType(addressBook);
+        assertEquals(ord, orderFromJson);
+        assertSame(ord.getCustomer(), orderFromJson.getCustomer());
+    }
+
+    @Test
+    public void toModelType_referencedCustomerNotInAddressBook_throwsIllegalValueException() {
+        JsonAdaptedOrder order = new JsonAdaptedOrder(new OrderBuilder().build(), true);
+        assertThrows(IllegalValueException.class, () -> order.toModelType(new AddressBook()));
+    }
+
+    @Test
+    public void toModelType_invalidCustomerPhone_throwsIllegalValueException() {
+        JsonAdaptedOrder order = new JsonAdaptedOrder(VALID_ORDER_ID, null, "not-a-phone", VALID_ORDER_ITEMS,
+                VALID_ORDER_DATE, VALID_ORDER_STATUS.toString());
+        assertThrows(IllegalValueException.class, () -> order.toModelType(new AddressBook()));
+    }
+
     @Test
     public void toModelType_invalidOrderId_throwsIllegalValueException() {
         JsonAdaptedOrder order = new JsonAdaptedOrder(
@@ -0,0 +1,79 @@
+package powerbake.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static powerbake.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import powerbake.address.commons.exceptions.IllegalValueException;
+import powerbake.address.commons.util.JsonUtil;
+import powerbake.address.model.AddressBook;
+import powerbake.address.model.order.Order;
+import powerbake.address.testutil.TypicalAddressBook;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalFiles_sameAsJsonSerializableAddressBook() throws Exception {
+        String[] fileNames = {"typicalPersonsAddressBook.json", "typicalPastriesAddressBook.json",
+            "typicalOrdersAddressBook.json"};
+        for (String fileName : fileNames) {
+            Path filePath = TEST_DATA_FOLDER.resolve(fileName);
+            AddressBook expected = JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get()
+                    .toModelType();
+            assertEquals(expected, JsonAddressBookReader.read(filePath));
+        }
+    }
+
+    @Test
+    public void read_invalidOrDuplicateItems_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () ->
+                JsonAddressBookReader.read(TEST_DATA_FOLDER.resolve("invalidOrderAddressBook.json")));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PASTRY, () ->
+                JsonAddressBookReader.read(TEST_DATA_FOLDER.resolve("duplicatePastryAddressBook.json")));
+        String unknownCustomerMessage = String.format(JsonAdaptedOrder.MESSAGE_UNKNOWN_CUSTOMER, "98765432");
+        assertThrows(IllegalValueException.class, unknownCustomerMessage, () ->
+                JsonAddressBookReader.read(TEST_DATA_FOLDER.resolve("unknownCustomerOrderAddressBook.json")));
+    }
+
+    @Test
+    public void read_ordersBeforeClients_customersResolved() throws Exception {
+        AddressBook typicalAddressBook = TypicalAddressBook.getTypicalAddressBook();
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(typicalAddressBook));
+        int ordersStart = json.indexOf("\"orders\"");
+        String reordered = "{ " + json.substring(ordersStart, json.lastIndexOf(']') + 1) + ", "
+                + json.substring(json.indexOf('{') + 1, ordersStart) + " \"unknown\" : { \"a\" : [ 1 ] } }";
+        Path filePath = testFolder.resolve("ReorderedAddressBook.json");
+        Files.writeString(filePath, reordered);
+
+        AddressBook addressBookFromFile = JsonAddressBookReader.read(filePath);
+        assertEquals(typicalAddressBook, addressBookFromFile);
+        for (Order order : addressBookFromFile.getOrderList()) {
+            assertSame(addressBookFromFile.findPersonByPhone(order.getCustomer().getPhone()).get(),
+                    order.getCustomer());
+        }
+    }
+
+    @Test
+    public void read_malformedJson_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("MalformedAddressBook.json");
+        String[] contents = {"", "[]", "{ \"persons\" : {} }", "{ \"persons\" : [ 1 ] }",
+            "{ \"persons\" : [ {\"name\" : \"Alice\""};
+        for (String content : contents) {
+            Files.writeString(filePath, content);
+            assertThrows(IOException.class, () -> JsonAddressBookReader.read(filePath));
+        }
+    }
+}
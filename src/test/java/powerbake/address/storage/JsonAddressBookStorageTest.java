@@ -9,6 +9,7 @@ import static powerbake.address.testutil.TypicalPersons.HOON;
 import static powerbake.address.testutil.TypicalPersons.IDA;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -86,6 +87,72 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_existingFile_previousVersionKeptAsBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        AddressBook previous = new AddressBook(original);
+
+        original.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        Path backupFilePath = FileAddressBookStorage.getBackupFilePath(filePath);
+        assertEquals(previous, new AddressBook(jsonAddressBookStorage.readAddressBook(backupFilePath).get()));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        assertFalse(Files.exists(filePath.resolveSibling(filePath.getFileName()
+                + FileAddressBookStorage.TEMP_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAddressBook_skipped() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        // an unchanged address book is not written again
+        Files.writeString(filePath, "not rewritten");
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertEquals("not rewritten", Files.readString(filePath));
+
+        // a modified one is
+        original.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        // so is an unchanged one whose data file has gone missing
+        Files.delete(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptOrMissingFile_readsBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        jsonAddressBookStorage.saveAddressBook(new AddressBook(original));
+
+        // simulates a data file cut short by a crash
+        Files.writeString(filePath, "{ \"persons\" : [");
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        // simulates a crash between moving the data file to the backup and renaming the new data file
+        Files.delete(filePath);
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptFileAndBackup_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Files.writeString(filePath, "not json format!");
+        Files.writeString(FileAddressBookStorage.getBackupFilePath(filePath), "not json format!");
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,51 @@
+package powerbake.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static powerbake.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import powerbake.address.commons.util.JsonUtil;
+import powerbake.address.model.AddressBook;
+
+public class JsonAddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_prettyFormat_sameAsJsonSerializableAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+
+        JsonAddressBookWriter.write(original, filePath, false);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)), Files.readString(filePath));
+        assertEquals(original, JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void write_compactFormat_sameAsCompactJsonSerializableAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+
+        JsonAddressBookWriter.write(original, filePath, true);
+        String json = Files.readString(filePath);
+        assertEquals(JsonUtil.toCompactJsonString(new JsonSerializableAddressBook(original)), json);
+        assertFalse(json.contains("\n"));
+        assertEquals(original, JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void write_existingLongerFile_replaced() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookWriter.write(getTypicalAddressBook(), filePath, false);
+
+        JsonAddressBookWriter.write(new AddressBook(), filePath, true);
+        assertEquals(new AddressBook(), JsonAddressBookReader.read(filePath));
+    }
+}
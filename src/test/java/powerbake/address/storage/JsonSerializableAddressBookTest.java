@@ -1,6 +1,7 @@
 package powerbake.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static powerbake.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
@@ -11,6 +12,8 @@ import org.junit.jupiter.api.Test;
 import powerbake.address.commons.exceptions.IllegalValueException;
 import powerbake.address.commons.util.JsonUtil;
 import powerbake.address.model.AddressBook;
+import powerbake.address.model.order.Order;
+import powerbake.address.model.person.Person;
 import powerbake.address.testutil.TypicalAddressBook;
 
 public class JsonSerializableAddressBookTest {
@@ -28,6 +31,8 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_ORDERS_FILE = TEST_DATA_FOLDER.resolve("typicalOrdersAddressBook.json");
     private static final Path INVALID_ORDER_FILE = TEST_DATA_FOLDER.resolve("invalidOrderAddressBook.json");
     private static final Path DUPLICATE_ORDER_FILE = TEST_DATA_FOLDER.resolve("duplicateOrderAddressBook.json");
+    private static final Path UNKNOWN_CUSTOMER_ORDER_FILE =
+            TEST_DATA_FOLDER.resolve("unknownCustomerOrderAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -99,4 +104,36 @@ public class JsonSerializableAddressBookTest {
                 DUPLICATE_ORDER_FILE, JsonSerializableAddressBook.class).get();
         assertThrows(IllegalValueException.class, dataFromFile::toModelType);
     }
+
+    @Test
+    public void toModelType_embeddedCustomers_resolvedToClients() throws Exception {
+        AddressBook addressBookFromFile = JsonUtil.readJsonFile(
+                TYPICAL_ORDERS_FILE, JsonSerializableAddressBook.class).get().toModelType();
+        Person client = addressBookFromFile.getPersonList().get(0);
+        for (Order order : addressBookFromFile.getOrderList()) {
+            assertSame(client, order.getCustomer());
+        }
+    }
+
+    @Test
+    public void toModelType_referencedCustomers_resolvedToClients() throws Exception {
+        AddressBook typicalAddressBook = TypicalAddressBook.getTypicalAddressBook();
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(typicalAddressBook));
+        AddressBook addressBookFromJson = JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class)
+                .toModelType();
+
+        assertEquals(typicalAddressBook, addressBookFromJson);
+        for (Order order : addressBookFromJson.getOrderList()) {
+            assertSame(addressBookFromJson.findPersonByPhone(order.getCustomer().getPhone()).get(),
+                    order.getCustomer());
+        }
+    }
+
+    @Test
+    public void toModelType_unknownCustomerReference_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(
+                UNKNOWN_CUSTOMER_ORDER_FILE, JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class,
+                String.format(JsonAdaptedOrder.MESSAGE_UNKNOWN_CUSTOMER, "98765432"), dataFromFile::toModelType);
+    }
 }
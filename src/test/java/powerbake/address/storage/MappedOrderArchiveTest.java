@@ -0,0 +1,119 @@
+package powerbake.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static powerbake.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static powerbake.address.testutil.TypicalOrders.ORDER_ONE;
+import static powerbake.address.testutil.TypicalOrders.ORDER_THREE;
+import static powerbake.address.testutil.TypicalOrders.ORDER_TWO;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import powerbake.address.model.AddressBook;
+import powerbake.address.model.order.Order;
+import powerbake.address.model.order.OrderId;
+import powerbake.address.model.order.OrderQuery;
+import powerbake.address.model.order.OrderStatus;
+import powerbake.address.testutil.OrderBuilder;
+
+public class MappedOrderArchiveTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.parse("2022-01-01T00:00:00");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void open_missingFiles_emptyArchive() throws Exception {
+        MappedOrderArchive archive = new MappedOrderArchive(testFolder.resolve("addressbook.json"));
+        archive.open();
+        assertEquals(0, archive.size());
+        assertTrue(archive.findOrders(new OrderQuery()).isEmpty());
+    }
+
+    @Test
+    public void archiveOrders_oldDeliveredAndCancelledOrders_movedToArchive() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        MappedOrderArchive archive = new MappedOrderArchive(filePath);
+        archive.open();
+        AddressBook addressBook = getTypicalAddressBook();
+        Order cancelledOrder = new OrderBuilder().withOrderId(new OrderId("22222222-7dec-11d0-a765-00a0c91e6bf6"))
+                .withOrderDate(LocalDateTime.parse("2021-12-31T23:59:59")).withStatus(OrderStatus.CANCELLED).build();
+        Order recentOrder = new OrderBuilder().withOrderId(new OrderId("33333333-7dec-11d0-a765-00a0c91e6bf6"))
+                .withOrderDate(CUTOFF).withStatus(OrderStatus.DELIVERED).build();
+        addressBook.addOrder(cancelledOrder);
+        addressBook.addOrder(recentOrder);
+
+        assertEquals(2, archive.archiveOrders(addressBook, CUTOFF));
+        assertEquals(List.of(ORDER_ONE, ORDER_TWO, recentOrder), addressBook.getOrderList());
+        assertEquals(2, archive.size());
+
+        // archived orders keep all their details
+        List<Order> archivedOrders = archive.findOrders(new OrderQuery().withStatus(OrderStatus.CANCELLED));
+        assertEquals(List.of(cancelledOrder), archivedOrders);
+        assertEquals(cancelledOrder.getOrderDate(), archivedOrders.get(0).getOrderDate());
+        assertEquals(cancelledOrder.getCustomer(), archivedOrders.get(0).getCustomer());
+        assertEquals(cancelledOrder.getOrderItems(), archivedOrders.get(0).getOrderItems());
+
+        // searches by date use the dates in the index
+        LocalDate cancelledDate = cancelledOrder.getOrderDate().toLocalDate();
+        assertEquals(List.of(cancelledOrder), archive.findOrders(new OrderQuery().withFromDate(cancelledDate)));
+        assertEquals(List.of(ORDER_THREE), archive.findOrders(new OrderQuery().withToDate(cancelledDate.minusDays(1))));
+        assertTrue(archive.findOrders(new OrderQuery().withStatus(OrderStatus.DELIVERED)
+                .withFromDate(cancelledDate)).isEmpty());
+
+        // a reopened archive has the same orders, and later orders are appended
+        MappedOrderArchive reopened = new MappedOrderArchive(filePath);
+        reopened.open();
+        assertEquals(List.of(ORDER_THREE, cancelledOrder), reopened.findOrders(new OrderQuery()));
+        assertEquals(1, reopened.archiveOrders(addressBook, CUTOFF.plusSeconds(1)));
+        assertEquals(List.of(ORDER_THREE, cancelledOrder, recentOrder),
+                reopened.findOrders(new OrderQuery()));
+    }
+
+    @Test
+    public void archiveOrders_alreadyArchived_onlyRemovedFromAddressBook() throws Exception {
+        MappedOrderArchive archive = new MappedOrderArchive(testFolder.resolve("addressbook.json"));
+        archive.open();
+        archive.archiveOrders(getTypicalAddressBook(), CUTOFF);
+
+        // simulates a crash after archiving the orders but before saving the address book
+        AddressBook addressBook = getTypicalAddressBook();
+        assertEquals(1, archive.archiveOrders(addressBook, CUTOFF));
+        assertEquals(1, archive.size());
+        assertFalse(addressBook.hasOrder(ORDER_THREE));
+    }
+
+    @Test
+    public void open_incompleteLastRecord_recordIgnored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        MappedOrderArchive archive = new MappedOrderArchive(filePath);
+        archive.open();
+        archive.archiveOrders(getTypicalAddressBook(), CUTOFF);
+
+        Path indexFilePath = testFolder.resolve("addressbook.json" + MappedOrderArchive.ARCHIVE_FILE_SUFFIX
+                + MappedOrderArchive.INDEX_FILE_SUFFIX);
+        Files.write(indexFilePath, new byte[] {1, 2, 3}, StandardOpenOption.APPEND);
+        MappedOrderArchive reopened = new MappedOrderArchive(filePath);
+        reopened.open();
+        assertEquals(List.of(ORDER_THREE), reopened.findOrders(new OrderQuery()));
+
+        // the incomplete record is overwritten by the next archived order
+        Order cancelledOrder = new OrderBuilder().withOrderId(new OrderId("22222222-7dec-11d0-a765-00a0c91e6bf6"))
+                .withOrderDate(LocalDateTime.parse("2021-12-31T23:59:59")).withStatus(OrderStatus.CANCELLED).build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addOrder(cancelledOrder);
+        reopened.archiveOrders(addressBook, CUTOFF);
+        assertEquals(MappedOrderArchive.HEADER_SIZE + 2 * MappedOrderArchive.RECORD_SIZE, Files.size(indexFilePath));
+        assertEquals(List.of(ORDER_THREE, cancelledOrder), reopened.findOrders(new OrderQuery()));
+    }
+}
@@ -0,0 +1,58 @@
+package powerbake.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static powerbake.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static powerbake.address.testutil.TypicalPastries.CHOCOLATECROISSANT;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import powerbake.address.model.AddressBook;
+import powerbake.address.model.AddressBookSnapshot;
+
+public class SavedVersionTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void isUnchanged() throws Exception {
+        Path filePath = Files.createFile(testFolder.resolve("TempAddressBook.json"));
+        SavedVersion savedVersion = new SavedVersion();
+        AddressBook addressBook = getTypicalAddressBook();
+
+        // nothing recorded yet
+        assertFalse(savedVersion.isUnchanged(addressBook, filePath));
+
+        savedVersion.record(addressBook, new AddressBookSnapshot(addressBook), filePath);
+        assertTrue(savedVersion.isUnchanged(addressBook, filePath));
+
+        // other address book with the same contents
+        assertFalse(savedVersion.isUnchanged(new AddressBook(addressBook), filePath));
+
+        // other file
+        assertFalse(savedVersion.isUnchanged(addressBook, testFolder.resolve("OtherAddressBook.json")));
+
+        // data file deleted
+        Files.delete(filePath);
+        assertFalse(savedVersion.isUnchanged(addressBook, filePath));
+    }
+
+    @Test
+    public void isListChanged_onlyModifiedListChanged() throws Exception {
+        Path filePath = Files.createFile(testFolder.resolve("TempAddressBook.json"));
+        SavedVersion savedVersion = new SavedVersion();
+        AddressBook addressBook = getTypicalAddressBook();
+        savedVersion.record(addressBook, addressBook, filePath);
+
+        addressBook.addPastry(CHOCOLATECROISSANT);
+        assertFalse(savedVersion.isUnchanged(addressBook, filePath));
+        assertFalse(savedVersion.isPersonListChanged(addressBook));
+        assertTrue(savedVersion.isPastryListChanged(addressBook));
+        assertFalse(savedVersion.isOrderListChanged(addressBook));
+    }
+}